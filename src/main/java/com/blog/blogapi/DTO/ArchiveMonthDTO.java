@@ -0,0 +1,31 @@
+package com.blog.blogapi.DTO;
+
+/**
+ * One month of the post archive and how many posts are dated in it
+ */
+public class ArchiveMonthDTO {
+
+    private int year;
+
+    private int month;
+
+    private long postCount;
+
+    public ArchiveMonthDTO() {}
+
+    // Used by the JPQL constructor expression in BlogPostRepository
+    public ArchiveMonthDTO(Integer year, Integer month, Long postCount) {
+        this.year = year;
+        this.month = month;
+        this.postCount = postCount;
+    }
+
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+
+    public long getPostCount() { return postCount; }
+    public void setPostCount(long postCount) { this.postCount = postCount; }
+}
@@ -0,0 +1,61 @@
+package com.blog.blogapi.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of an author: the author columns and post count, never the post entities.
+ * posts holds the newest few post summaries only when they were asked for.
+ */
+public class AuthorDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private String bio;
+
+    private String website;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private long postCount;
+
+    // Left out unless requested; nextCursor continues in /api/posts/author/{id}/feed
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private FeedPage<PostSummaryDTO> posts;
+
+    public AuthorDTO() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getBio() { return bio; }
+    public void setBio(String bio) { this.bio = bio; }
+
+    public String getWebsite() { return website; }
+    public void setWebsite(String website) { this.website = website; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public long getPostCount() { return postCount; }
+    public void setPostCount(long postCount) { this.postCount = postCount; }
+
+    public FeedPage<PostSummaryDTO> getPosts() { return posts; }
+    public void setPosts(FeedPage<PostSummaryDTO> posts) { this.posts = posts; }
+}
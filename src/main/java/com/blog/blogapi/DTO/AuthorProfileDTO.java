@@ -0,0 +1,64 @@
+package com.blog.blogapi.DTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Everything an author page shows: the author, their post count, how their posts spread
+ * over categories and the newest posts (continued by the author feed from posts.nextCursor)
+ */
+public class AuthorProfileDTO {
+
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private String bio;
+
+    private String website;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private long postCount;
+
+    // Most used category first
+    private List<CategoryCountDTO> categories;
+
+    private FeedPage<PostSummaryDTO> posts;
+
+    public AuthorProfileDTO() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getBio() { return bio; }
+    public void setBio(String bio) { this.bio = bio; }
+
+    public String getWebsite() { return website; }
+    public void setWebsite(String website) { this.website = website; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public long getPostCount() { return postCount; }
+    public void setPostCount(long postCount) { this.postCount = postCount; }
+
+    public List<CategoryCountDTO> getCategories() { return categories; }
+    public void setCategories(List<CategoryCountDTO> categories) { this.categories = categories; }
+
+    public FeedPage<PostSummaryDTO> getPosts() { return posts; }
+    public void setPosts(FeedPage<PostSummaryDTO> posts) { this.posts = posts; }
+}
@@ -0,0 +1,64 @@
+package com.blog.blogapi.DTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of an author removal, or progress of one still running in the background
+ */
+public class AuthorRemovalDTO {
+
+    // Only set for background removals
+    private String jobId;
+
+    private Long authorId;
+
+    // NONE, DELETE or REASSIGN
+    private String posts;
+
+    private Long reassignTo;
+
+    // QUEUED, RUNNING, COMPLETED or FAILED
+    private String status;
+
+    private long totalPosts;
+
+    private long processedPosts;
+
+    private String error;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public AuthorRemovalDTO() {}
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public String getPosts() { return posts; }
+    public void setPosts(String posts) { this.posts = posts; }
+
+    public Long getReassignTo() { return reassignTo; }
+    public void setReassignTo(Long reassignTo) { this.reassignTo = reassignTo; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getTotalPosts() { return totalPosts; }
+    public void setTotalPosts(long totalPosts) { this.totalPosts = totalPosts; }
+
+    public long getProcessedPosts() { return processedPosts; }
+    public void setProcessedPosts(long processedPosts) { this.processedPosts = processedPosts; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
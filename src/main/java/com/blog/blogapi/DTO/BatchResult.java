@@ -0,0 +1,72 @@
+package com.blog.blogapi.DTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Result of a multi-get: items follow the order of the requested ids (duplicates included),
+ * with null where an id does not exist. The missing ids are also listed in missingIds.
+ */
+public class BatchResult<T> {
+
+    public static final int MAX_IDS = 100;
+
+    private List<T> items;
+
+    private List<Long> missingIds;
+
+    public BatchResult() {}
+
+    public BatchResult(List<T> items, List<Long> missingIds) {
+        this.items = items;
+        this.missingIds = missingIds;
+    }
+
+    /**
+     * Line up the entities found by one IN query with the requested ids
+     */
+    public static <E, T> BatchResult<T> of(List<Long> ids, Collection<E> found, Function<E, Long> idOf, Function<E, T> mapper) {
+        Map<Long, T> byId = new HashMap<>();
+        for (E entity : found) {
+            byId.put(idOf.apply(entity), mapper.apply(entity));
+        }
+
+        List<T> items = new ArrayList<>(ids.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            T item = byId.get(id);
+            items.add(item);
+            if (item == null && !missingIds.contains(id)) {
+                missingIds.add(id);
+            }
+        }
+        return new BatchResult<>(items, missingIds);
+    }
+
+    /**
+     * Reject empty, oversized or null-containing id lists before they reach the database
+     */
+    public static void requireValidIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be requested at once, got " + ids.size());
+        }
+        // Not ids.contains(null): immutable lists throw on a null probe
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Ids must not be empty");
+        }
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public List<Long> getMissingIds() { return missingIds; }
+    public void setMissingIds(List<Long> missingIds) { this.missingIds = missingIds; }
+}
@@ -0,0 +1,29 @@
+package com.blog.blogapi.DTO;
+
+import java.util.List;
+
+/**
+ * Selects the posts a bulk category change applies to: either an explicit id list
+ * or every post of one author, never both
+ */
+public class BulkCategoryRequest {
+
+    public static final int MAX_POST_IDS = 10_000;
+
+    private List<Long> postIds;
+
+    private Long authorId;
+
+    public BulkCategoryRequest() {}
+
+    public BulkCategoryRequest(List<Long> postIds, Long authorId) {
+        this.postIds = postIds;
+        this.authorId = authorId;
+    }
+
+    public List<Long> getPostIds() { return postIds; }
+    public void setPostIds(List<Long> postIds) { this.postIds = postIds; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+}
@@ -0,0 +1,30 @@
+package com.blog.blogapi.DTO;
+
+/**
+ * A category and how many posts of some selection (e.g. one author's) are in it
+ */
+public class CategoryCountDTO {
+
+    private Long categoryId;
+
+    private String name;
+
+    private long postCount;
+
+    public CategoryCountDTO() {}
+
+    public CategoryCountDTO(Long categoryId, String name, long postCount) {
+        this.categoryId = categoryId;
+        this.name = name;
+        this.postCount = postCount;
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public long getPostCount() { return postCount; }
+    public void setPostCount(long postCount) { this.postCount = postCount; }
+}
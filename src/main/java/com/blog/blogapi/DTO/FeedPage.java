@@ -0,0 +1,33 @@
+package com.blog.blogapi.DTO;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paged feed. Pass nextCursor back as ?cursor= to get the
+ * following page; it is null on the last page.
+ */
+public class FeedPage<T> {
+
+    private List<T> items;
+
+    private String nextCursor;
+
+    private boolean hasMore;
+
+    public FeedPage() {}
+
+    public FeedPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,54 @@
+package com.blog.blogapi.DTO;
+
+import java.util.List;
+
+/**
+ * One page of a list endpoint, in offset or cursor mode
+ * Either way nextCursor points after the last item (null on the last page); pass it back
+ * as ?cursor= to continue. page is the requested page number in offset mode, null in cursor mode.
+ * There is no total count, so no page costs a COUNT over the whole selection.
+ */
+public class ListPage<T> {
+
+    private List<T> items;
+
+    private Integer page;
+
+    private int size;
+
+    private boolean hasMore;
+
+    private String nextCursor;
+
+    public ListPage() {}
+
+    public ListPage(List<T> items, Integer page, int size, boolean hasMore, String nextCursor) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasMore = hasMore;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * The same page position with other items, e.g. the entities of a page mapped in one batch
+     */
+    public <R> ListPage<R> withItems(List<R> items) {
+        return new ListPage<>(items, page, size, hasMore, nextCursor);
+    }
+
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public Integer getPage() { return page; }
+    public void setPage(Integer page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
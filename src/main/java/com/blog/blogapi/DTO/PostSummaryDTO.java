@@ -0,0 +1,64 @@
+package com.blog.blogapi.DTO;
+
+import java.time.LocalDate;
+
+/**
+ * List view of a post: everything precomputed at write time, never the content itself
+ */
+public class PostSummaryDTO {
+
+    private Long id;
+
+    private String title;
+
+    private String summary;
+
+    private Long authorId;
+
+    private String author;
+
+    private LocalDate publishedDate;
+
+    private Integer wordCount;
+
+    private Integer readingTimeMinutes;
+
+    public PostSummaryDTO() {}
+
+    // Used by the JPQL constructor expression in BlogPostRepository
+    public PostSummaryDTO(Long id, String title, String summary, Long authorId, String author,
+                          LocalDate publishedDate, Integer wordCount, Integer readingTimeMinutes) {
+        this.id = id;
+        this.title = title;
+        this.summary = summary;
+        this.authorId = authorId;
+        this.author = author;
+        this.publishedDate = publishedDate;
+        this.wordCount = wordCount;
+        this.readingTimeMinutes = readingTimeMinutes;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+
+    public Long getAuthorId() { return authorId; }
+    public void setAuthorId(Long authorId) { this.authorId = authorId; }
+
+    public String getAuthor() { return author; }
+    public void setAuthor(String author) { this.author = author; }
+
+    public LocalDate getPublishedDate() { return publishedDate; }
+    public void setPublishedDate(LocalDate publishedDate) { this.publishedDate = publishedDate; }
+
+    public Integer getWordCount() { return wordCount; }
+    public void setWordCount(Integer wordCount) { this.wordCount = wordCount; }
+
+    public Integer getReadingTimeMinutes() { return readingTimeMinutes; }
+    public void setReadingTimeMinutes(Integer readingTimeMinutes) { this.readingTimeMinutes = readingTimeMinutes; }
+}
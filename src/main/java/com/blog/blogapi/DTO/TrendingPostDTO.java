@@ -0,0 +1,24 @@
+package com.blog.blogapi.DTO;
+
+/**
+ * A post in the trending list with its time-decayed score at the last refresh
+ */
+public class TrendingPostDTO {
+
+    private PostSummaryDTO post;
+
+    private double score;
+
+    public TrendingPostDTO() {}
+
+    public TrendingPostDTO(PostSummaryDTO post, double score) {
+        this.post = post;
+        this.score = score;
+    }
+
+    public PostSummaryDTO getPost() { return post; }
+    public void setPost(PostSummaryDTO post) { this.post = post; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
@@ -0,0 +1,23 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the author profile endpoint (prefix {@code blog.author-profile})
+ * A profile is built in two queries and kept in memory until the author or their posts change.
+ */
+@ConfigurationProperties(prefix = "blog.author-profile")
+public class AuthorProfileProperties {
+
+    // Post summaries on the profile; the rest comes from the author feed via nextCursor
+    private int postsPageSize = 10;
+
+    // Profiles kept in memory, least recently read dropped first
+    private int cacheSize = 1_000;
+
+    public int getPostsPageSize() { return postsPageSize; }
+    public void setPostsPageSize(int postsPageSize) { this.postsPageSize = postsPageSize; }
+
+    public int getCacheSize() { return cacheSize; }
+    public void setCacheSize(int cacheSize) { this.cacheSize = cacheSize; }
+}
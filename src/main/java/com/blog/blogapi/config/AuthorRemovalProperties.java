@@ -0,0 +1,29 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for background author removals (prefix {@code blog.author-removal})
+ * Removals of prolific authors run as a job that deletes or moves their posts in chunks.
+ */
+@ConfigurationProperties(prefix = "blog.author-removal")
+public class AuthorRemovalProperties {
+
+    // Posts deleted or reassigned per transaction in a background removal
+    private int chunkSize = 500;
+
+    // Pause after each chunk so replicas and concurrent writers keep up
+    private long pauseMs = 100;
+
+    // Finished jobs kept for status lookups; the oldest are dropped first
+    private int finishedJobsKept = 100;
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public long getPauseMs() { return pauseMs; }
+    public void setPauseMs(long pauseMs) { this.pauseMs = pauseMs; }
+
+    public int getFinishedJobsKept() { return finishedJobsKept; }
+    public void setFinishedJobsKept(int finishedJobsKept) { this.finishedJobsKept = finishedJobsKept; }
+}
@@ -0,0 +1,23 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for read coalescing (prefix {@code blog.coalescing})
+ * Concurrent reads of the same post, author or category share one database load.
+ */
+@ConfigurationProperties(prefix = "blog.coalescing")
+public class CoalescingProperties {
+
+    // Off: every read runs its own query, as before
+    private boolean enabled = true;
+
+    // How long a read waits for a load started by another request before running its own
+    private long waitTimeoutMs = 2_000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getWaitTimeoutMs() { return waitTimeoutMs; }
+    public void setWaitTimeoutMs(long waitTimeoutMs) { this.waitTimeoutMs = waitTimeoutMs; }
+}
@@ -0,0 +1,88 @@
+package com.blog.blogapi.config;
+
+import com.blog.blogapi.DTO.AuthorDTO;
+import com.blog.blogapi.DTO.BlogPostDTO;
+import com.blog.blogapi.DTO.CategoryDTO;
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.Category;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Binary representations for the REST API, selected through the Accept header
+ * - application/cbor
+ * - application/x-jackson-smile
+ * - application/x-protobuf (schema served at /proto/blog.proto)
+ * JSON stays the default: the binary converters are ordered after the JSON one, so they
+ * are only used when a client explicitly asks for them.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    // Replace the default CBOR/Smile converters (same position in the list) with ones
+    // built from Boot's builder, so spring.jackson.* settings apply to every format
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    // Not a bean on purpose: Boot puts extra converter beans in front of the defaults,
+    // which would make protobuf the answer to "Accept: */*"
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(protobufHttpMessageConverter());
+    }
+
+    static ProtobufHttpMessageConverter protobufHttpMessageConverter() {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(new ProtobufFactory())
+                .featuresToDisable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) // dates are ISO strings in the schema
+                .build();
+        // Entities carry more properties than their message declares, skip the extra ones
+        mapper.enable(JsonGenerator.Feature.IGNORE_UNKNOWN);
+
+        return new ProtobufHttpMessageConverter(mapper, loadSchema())
+                .addMessage(BlogPostDTO.class, "BlogPost")
+                .addMessage(BlogPost.class, "BlogPost")
+                .addMessage(CategoryDTO.class, "Category")
+                .addMessage(Category.class, "Category")
+                .addMessage(AuthorDTO.class, "Author")
+                .addMessage(Author.class, "Author");
+    }
+
+    private static NativeProtobufSchema loadSchema() {
+        ClassPathResource resource = new ClassPathResource("static" + ProtobufHttpMessageConverter.SCHEMA_LOCATION);
+        try (InputStream in = resource.getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(in, true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not load protobuf schema " + resource, ex);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for compressed post content storage (prefix {@code blog.content})
+ */
+@ConfigurationProperties(prefix = "blog.content")
+public class ContentStorageProperties {
+
+    // Deflate level, 1 (fastest) to 9 (smallest)
+    private int compressionLevel = 6;
+
+    // Number of recent posts used to train the dictionary
+    private int dictionarySampleSize = 1000;
+
+    // Minimum number of posts before a dictionary is trained
+    private int dictionaryMinSamples = 20;
+
+    // Deflate only looks back 32 KB, larger dictionaries are useless
+    private int dictionaryMaxBytes = 32 * 1024;
+
+    // Rendered HTML documents kept in memory (LRU), keyed by content hash
+    private int htmlCacheSize = 1000;
+
+    // Posts per chunk when backfilling excerpt and reading stats
+    private int statsBackfillChunkSize = 200;
+
+    // Chunks processed concurrently by the backfill
+    private int statsBackfillParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    public int getCompressionLevel() { return compressionLevel; }
+    public void setCompressionLevel(int compressionLevel) { this.compressionLevel = compressionLevel; }
+
+    public int getDictionarySampleSize() { return dictionarySampleSize; }
+    public void setDictionarySampleSize(int dictionarySampleSize) { this.dictionarySampleSize = dictionarySampleSize; }
+
+    public int getDictionaryMinSamples() { return dictionaryMinSamples; }
+    public void setDictionaryMinSamples(int dictionaryMinSamples) { this.dictionaryMinSamples = dictionaryMinSamples; }
+
+    public int getDictionaryMaxBytes() { return dictionaryMaxBytes; }
+    public void setDictionaryMaxBytes(int dictionaryMaxBytes) { this.dictionaryMaxBytes = Math.min(dictionaryMaxBytes, 32 * 1024); }
+
+    public int getHtmlCacheSize() { return htmlCacheSize; }
+    public void setHtmlCacheSize(int htmlCacheSize) { this.htmlCacheSize = htmlCacheSize; }
+
+    public int getStatsBackfillChunkSize() { return statsBackfillChunkSize; }
+    public void setStatsBackfillChunkSize(int statsBackfillChunkSize) { this.statsBackfillChunkSize = statsBackfillChunkSize; }
+
+    public int getStatsBackfillParallelism() { return statsBackfillParallelism; }
+    public void setStatsBackfillParallelism(int statsBackfillParallelism) { this.statsBackfillParallelism = Math.max(1, statsBackfillParallelism); }
+}
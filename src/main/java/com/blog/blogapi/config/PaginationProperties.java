@@ -0,0 +1,29 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Page size limits of the list and feed endpoints (prefix {@code blog.pagination})
+ * No request can ask for more than max-page-size items, whatever the table size.
+ */
+@ConfigurationProperties(prefix = "blog.pagination")
+public class PaginationProperties {
+
+    // Items per page when the request does not say
+    private int defaultPageSize = 20;
+
+    // Largest page a request may ask for
+    private int maxPageSize = 100;
+
+    // Offset paging stops this deep (page * size); further pages need the cursor
+    private int maxOffset = 10_000;
+
+    public int getDefaultPageSize() { return defaultPageSize; }
+    public void setDefaultPageSize(int defaultPageSize) { this.defaultPageSize = defaultPageSize; }
+
+    public int getMaxPageSize() { return maxPageSize; }
+    public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+
+    public int getMaxOffset() { return maxOffset; }
+    public void setMaxOffset(int maxOffset) { this.maxOffset = maxOffset; }
+}
@@ -0,0 +1,163 @@
+package com.blog.blogapi.config;
+
+import com.blog.blogapi.DTO.ListPage;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes "application/x-protobuf" using the messages declared in static/proto/blog.proto
+ * The mapper must be built on a ProtobufFactory. Serialization goes through Jackson, so a type is written with the same properties as its
+ * JSON form (restricted to the fields declared in the schema). Collections are wrapped in the
+ * matching "...List" message, and a {@link ListPage} is written as that message with its paging fields. Only types registered with {@link #addMessage} are supported,
+ * everything else falls through to the other converters.
+ */
+public class ProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public static final String SCHEMA_LOCATION = "/proto/blog.proto";
+
+    private static final String SCHEMA_PACKAGE = "blog";
+    private static final String SCHEMA_HEADER = "X-Protobuf-Schema";
+    private static final String MESSAGE_HEADER = "X-Protobuf-Message";
+    private static final String LIST_SUFFIX = "List";
+
+    private final ObjectMapper mapper;
+    private final NativeProtobufSchema nativeSchema;
+    private final Map<Class<?>, String> messageNames = new HashMap<>();
+    private final Map<String, ProtobufSchema> schemas = new HashMap<>();
+
+    public ProtobufHttpMessageConverter(ObjectMapper mapper, NativeProtobufSchema nativeSchema) {
+        super(APPLICATION_PROTOBUF);
+        this.mapper = mapper;
+        this.nativeSchema = nativeSchema;
+    }
+
+    /**
+     * Maps a Java type to a message of the schema; "{messageName}List" is used for collections of it
+     */
+    public ProtobufHttpMessageConverter addMessage(Class<?> type, String messageName) {
+        messageNames.put(type, messageName);
+        schemas.computeIfAbsent(messageName, nativeSchema::forType);
+        schemas.computeIfAbsent(messageName + LIST_SUFFIX, nativeSchema::forType);
+        return this;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return messageName(clazz) != null;
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        // Only the raw class is known here; collections and pages are checked per element in canWrite(Type, ...)
+        if (isListType(clazz)) {
+            return getSupportedMediaTypes();
+        }
+        return super.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (isListType(clazz)) {
+            return messageName(elementType(type)) != null;
+        }
+        return supports(clazz);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+
+        String messageName;
+        Object value;
+        if (object instanceof Collection<?> items) {
+            Class<?> elementType = elementType(type);
+            if (elementType == null && !items.isEmpty()) {
+                elementType = items.iterator().next().getClass();
+            }
+            messageName = messageName(elementType) + LIST_SUFFIX;
+            value = Map.of("items", items);
+        } else if (object instanceof ListPage<?> page) {
+            Class<?> elementType = elementType(type);
+            if (elementType == null && !page.getItems().isEmpty()) {
+                elementType = page.getItems().get(0).getClass();
+            }
+            messageName = messageName(elementType) + LIST_SUFFIX;
+            value = page;
+        } else {
+            messageName = messageName(object.getClass());
+            value = object;
+        }
+
+        outputMessage.getHeaders().set(SCHEMA_HEADER, SCHEMA_LOCATION);
+        outputMessage.getHeaders().set(MESSAGE_HEADER, SCHEMA_PACKAGE + "." + messageName);
+        mapper.writer(schemas.get(messageName)).writeValue(outputMessage.getBody(), value);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        JavaType javaType = mapper.constructType(type);
+        return readType(javaType, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        return readType(mapper.constructType(clazz), inputMessage);
+    }
+
+    private Object readType(JavaType javaType, HttpInputMessage inputMessage) throws IOException {
+        String messageName = messageName(javaType.getRawClass());
+        if (messageName == null) {
+            throw new HttpMessageNotReadableException("No protobuf message mapped for " + javaType, inputMessage);
+        }
+        return mapper.readerFor(javaType).with(schemas.get(messageName)).readValue(inputMessage.getBody());
+    }
+
+    private String messageName(Class<?> clazz) {
+        // Walk up so that proxies/subclasses of a registered type are recognized
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            String name = messageNames.get(current);
+            if (name != null) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isListType(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz) || ListPage.class.isAssignableFrom(clazz);
+    }
+
+    private static Class<?> elementType(Type type) {
+        if (type == null) {
+            return null;
+        }
+        ResolvableType resolvable = ResolvableType.forType(type);
+        if (ListPage.class.isAssignableFrom(resolvable.toClass())) {
+            return resolvable.as(ListPage.class).resolveGeneric(0);
+        }
+        return resolvable.asCollection().resolveGeneric(0);
+    }
+}
@@ -0,0 +1,47 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for purging soft-deleted posts (prefix {@code blog.purge})
+ * Deleted posts are kept for the retention period, then removed in small throttled chunks.
+ */
+@ConfigurationProperties(prefix = "blog.purge")
+public class PurgeProperties {
+
+    // Off: deleted posts stay in the table (still invisible to every read)
+    private boolean enabled = true;
+
+    // How long a deleted post is kept before it is removed for good
+    private long retentionHours = 168;
+
+    // Delay between two purge runs
+    private long intervalMs = 60_000;
+
+    // Posts removed per transaction; keeps row locks and WAL per commit small
+    private int chunkSize = 200;
+
+    // Pause after each chunk so replicas and concurrent writers keep up
+    private long pauseMs = 200;
+
+    // Chunks per run at most; the next run continues where this one stopped
+    private int maxChunksPerRun = 50;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getRetentionHours() { return retentionHours; }
+    public void setRetentionHours(long retentionHours) { this.retentionHours = retentionHours; }
+
+    public long getIntervalMs() { return intervalMs; }
+    public void setIntervalMs(long intervalMs) { this.intervalMs = intervalMs; }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public long getPauseMs() { return pauseMs; }
+    public void setPauseMs(long pauseMs) { this.pauseMs = pauseMs; }
+
+    public int getMaxChunksPerRun() { return maxChunksPerRun; }
+    public void setMaxChunksPerRun(int maxChunksPerRun) { this.maxChunksPerRun = maxChunksPerRun; }
+}
@@ -0,0 +1,14 @@
+package com.blog.blogapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. compression dictionary retraining)
+ * They run on Boot's scheduler, sized by spring.task.scheduling.pool.size so that a long
+ * job (the throttled purge) never delays the frequent ones.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,44 @@
+package com.blog.blogapi.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Startup-optimized mode: beans that are not needed to serve the first request
+ * (API docs and the like) are created lazily. Unlike spring.main.lazy-initialization
+ * this leaves schedulers, startup jobs and the data layer eager.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("startup")
+public class StartupConfig {
+
+    @Bean
+    static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        // Runs before @ConfigurationProperties binding, so the list is read straight from the environment
+        List<String> packages = Binder.get(environment)
+                .bind("blog.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                Class<?> type = definition.getResolvableType().resolve();
+                if (type == null && definition.getFactoryBeanName() != null) {
+                    // @Bean methods: judge by the configuration class declaring them
+                    type = beanFactory.getType(definition.getFactoryBeanName(), false);
+                }
+                if (type != null && packages.stream().anyMatch(type.getName()::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
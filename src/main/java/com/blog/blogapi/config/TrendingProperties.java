@@ -0,0 +1,45 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the trending posts ranking (prefix {@code blog.trending})
+ * Every view and write adds a weight to the post's score; scores halve every half-life.
+ */
+@ConfigurationProperties(prefix = "blog.trending")
+public class TrendingProperties {
+
+    // Posts kept in the ranking (and the largest list the endpoint serves)
+    private int size = 100;
+
+    private long halfLifeMinutes = 60;
+
+    private double viewWeight = 1.0;
+
+    // A new or edited post counts like this many views
+    private double writeWeight = 5.0;
+
+    // Delay between two rebuilds of the served list
+    private long refreshIntervalMs = 5_000;
+
+    // Independently locked parts of the score table, spreads contention between request threads
+    private int stripes = 16;
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public long getHalfLifeMinutes() { return halfLifeMinutes; }
+    public void setHalfLifeMinutes(long halfLifeMinutes) { this.halfLifeMinutes = halfLifeMinutes; }
+
+    public double getViewWeight() { return viewWeight; }
+    public void setViewWeight(double viewWeight) { this.viewWeight = viewWeight; }
+
+    public double getWriteWeight() { return writeWeight; }
+    public void setWriteWeight(double writeWeight) { this.writeWeight = writeWeight; }
+
+    public long getRefreshIntervalMs() { return refreshIntervalMs; }
+    public void setRefreshIntervalMs(long refreshIntervalMs) { this.refreshIntervalMs = refreshIntervalMs; }
+
+    public int getStripes() { return stripes; }
+    public void setStripes(int stripes) { this.stripes = stripes; }
+}
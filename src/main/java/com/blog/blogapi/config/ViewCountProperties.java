@@ -0,0 +1,24 @@
+package com.blog.blogapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for post view counting (prefix {@code blog.views})
+ * Views are counted in memory and written to blogpost.view_count in batches,
+ * so a stored count lags by at most one flush interval.
+ */
+@ConfigurationProperties(prefix = "blog.views")
+public class ViewCountProperties {
+
+    // Delay between two flushes of the in-memory counts
+    private long flushIntervalMs = 5_000;
+
+    // Posts updated per batched statement (and per transaction)
+    private int flushBatchSize = 500;
+
+    public long getFlushIntervalMs() { return flushIntervalMs; }
+    public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+
+    public int getFlushBatchSize() { return flushBatchSize; }
+    public void setFlushBatchSize(int flushBatchSize) { this.flushBatchSize = flushBatchSize; }
+}
@@ -1,7 +1,15 @@
 package com.blog.blogapi.controller;
 
+import com.blog.blogapi.DTO.AuthorDTO;
+import com.blog.blogapi.DTO.AuthorProfileDTO;
+import com.blog.blogapi.DTO.AuthorRemovalDTO;
+import com.blog.blogapi.DTO.BatchResult;
+import com.blog.blogapi.DTO.ListPage;
 import com.blog.blogapi.model.Author;
+import com.blog.blogapi.service.AuthorProfileService;
+import com.blog.blogapi.service.AuthorRemovalService;
 import com.blog.blogapi.service.AuthorService;
+import com.blog.blogapi.service.Pagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,45 +36,108 @@ import java.util.Map;
 public class AuthorController {
 
     private final AuthorService authorService;
+    private final AuthorProfileService authorProfileService;
+    private final AuthorRemovalService authorRemovalService;
+    private final Pagination pagination;
 
     @Operation(
             summary = "Get all authors",
-            description = "Retrieves a list of all registered blog authors with their complete information"
+            description = "Lists authors ordered by id, one page at a time and without their posts: each entry carries the author's post count instead. Page by number (page, size) or by cursor (cursor, size); either way the response carries nextCursor and no total count. Pass posts=N (at most 20) to embed each author's N newest post summaries; posts.nextCursor continues in /api/posts/author/{authorId}/feed."
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "Successfully retrieved all authors",
-            content = @Content(
-                    mediaType = "application/json",
-                    schema = @Schema(implementation = Author.class),
-                    examples = @ExampleObject(
-                            name = "Authors List",
-                            value = """
-                [
-                    {
-                        "id": 1,
-                        "name": "John Doe",
-                        "email": "john.doe@example.com",
-                        "bio": "Experienced software developer with 10+ years in Java and Spring",
-                        "createdAt": "2024-01-15T10:30:00",
-                        "updatedAt": "2024-01-16T09:45:00"
-                    },
-                    {
-                        "id": 2,
-                        "name": "Jane Smith",
-                        "email": "jane.smith@example.com",
-                        "bio": "Full-stack developer passionate about modern web technologies",
-                        "createdAt": "2024-01-18T14:20:00",
-                        "updatedAt": "2024-01-18T14:20:00"
-                    }
-                ]
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved authors",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AuthorDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Authors List",
+                                    value = """
+                {
+                    "items": [
+                            {
+                                "id": 1,
+                                "name": "John Doe",
+                                "email": "john.doe@example.com",
+                                "bio": "Experienced software developer with 10+ years in Java and Spring",
+                                "website": "https://johndoe.dev",
+                                "createdAt": "2024-01-15T10:30:00",
+                                "updatedAt": "2024-01-16T09:45:00",
+                                "postCount": 12,
+                                "posts": {
+                                    "items": [
+                                        {
+                                            "id": 42,
+                                            "title": "Spring Boot Best Practices",
+                                            "summary": "A collection of conventions that keep Spring Boot services maintainable...",
+                                            "authorId": 1,
+                                            "author": "John Doe",
+                                            "publishedDate": "2024-01-18",
+                                            "wordCount": 1240,
+                                            "readingTimeMinutes": 7
+                                        }
+                                    ],
+                                    "nextCursor": "MjAyNC0wMS0xOF80Mg",
+                                    "hasMore": true
+                                }
+                            },
+                            {
+                                "id": 2,
+                                "name": "Jane Smith",
+                                "email": "jane.smith@example.com",
+                                "bio": "Full-stack developer passionate about modern web technologies",
+                                "website": null,
+                                "createdAt": "2024-01-18T14:20:00",
+                                "updatedAt": "2024-01-18T14:20:00",
+                                "postCount": 0,
+                                "posts": {
+                                    "items": [],
+                                    "nextCursor": null,
+                                    "hasMore": false
+                                }
+                            }
+                    ],
+                    "page": 0,
+                    "size": 20,
+                    "hasMore": false,
+                    "nextCursor": null
+                }
                 """
+                            )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, page size above the maximum, page too deep, both page and cursor, or posts outside 0-20"
             )
-    )
+    })
     @GetMapping
-    public ResponseEntity<List<Author>> getAllAuthors() {
-        List<Author> authors = authorService.getAllAuthors();
+    public ResponseEntity<ListPage<AuthorDTO>> getAllAuthors(
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset authors",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Authors per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(
+                    description = "Newest post summaries to embed per author, at most 20",
+                    example = "3"
+            )
+            @RequestParam(defaultValue = "0") int posts
+    ) {
+        ListPage<AuthorDTO> authors = authorService.getAuthors(pagination.resolve(page, size, cursor), posts);
         return ResponseEntity.ok(authors);
     }
 
@@ -203,10 +274,76 @@ public class AuthorController {
             )
             @PathVariable Long id
     ) {
-        Author author = authorService.getAuthorById(id);
+        Author author = authorService.readAuthorById(id);
         return ResponseEntity.ok(author);
     }
 
+    @Operation(
+            summary = "Get author profile",
+            description = "Returns everything an author page shows in one response: the author, their total post count, how their posts spread over categories and the newest posts. Pass posts.nextCursor to /api/posts/author/{authorId}/feed for the following pages. Profiles are built in two queries and served from memory until the author or one of their posts changes"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Author profile retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AuthorProfileDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Author Profile",
+                                    value = """
+                    {
+                        "id": 1,
+                        "name": "John Doe",
+                        "email": "john.doe@example.com",
+                        "bio": "Experienced software developer specializing in Spring Boot and microservices",
+                        "website": "https://johndoe.dev",
+                        "createdAt": "2024-01-15T10:30:00",
+                        "updatedAt": "2024-01-16T09:45:00",
+                        "postCount": 12,
+                        "categories": [
+                            { "categoryId": 3, "name": "Java", "postCount": 8 },
+                            { "categoryId": 5, "name": "Spring", "postCount": 5 }
+                        ],
+                        "posts": {
+                            "items": [
+                                {
+                                    "id": 42,
+                                    "title": "Spring Boot Best Practices",
+                                    "summary": "A collection of conventions that keep Spring Boot services maintainable...",
+                                    "authorId": 1,
+                                    "author": "John Doe",
+                                    "publishedDate": "2024-01-18",
+                                    "wordCount": 1240,
+                                    "readingTimeMinutes": 7
+                                }
+                            ],
+                            "nextCursor": "MjAyNC0wMS0xOF80Mg",
+                            "hasMore": true
+                        }
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Author not found"
+            )
+    })
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<AuthorProfileDTO> getAuthorProfile(
+            @Parameter(
+                    description = "ID of the author",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long id
+    ) {
+        AuthorProfileDTO profile = authorProfileService.getProfile(id);
+        return ResponseEntity.ok(profile);
+    }
+
     @Operation(
             summary = "Update author",
             description = "Updates an existing author's information"
@@ -268,7 +405,7 @@ public class AuthorController {
 
     @Operation(
             summary = "Delete author",
-            description = "Permanently removes an author from the system. Note: This will also affect associated blog posts."
+            description = "Permanently removes an author. Without posts the author must have no posts left. posts=delete removes their posts (with their category links and bodies), posts=reassign hands them to the author given in reassignTo. Either way the posts are deleted or moved with a few set-based statements in one transaction; use POST /api/authors/{id}/removal for authors with very many posts."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -280,15 +417,22 @@ public class AuthorController {
                                     name = "Delete Success",
                                     value = """
                     {
-                        "message": "Author with id 1 deleted successfully"
+                        "message": "Author with id 1 deleted successfully",
+                        "posts": "REASSIGN",
+                        "reassignTo": 2,
+                        "processedPosts": 5
                     }
                     """
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown posts value, or reassignTo missing or not allowed"
+            ),
             @ApiResponse(
                     responseCode = "404",
-                    description = "Author not found"
+                    description = "Author (or reassignTo author) not found"
             ),
             @ApiResponse(
                     responseCode = "409",
@@ -308,22 +452,148 @@ public class AuthorController {
             )
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, String>> deleteAuthor(
+    public ResponseEntity<Map<String, Object>> deleteAuthor(
             @Parameter(
                     description = "ID of the author to delete",
                     required = true,
                     example = "1"
             )
-            @PathVariable Long id
+            @PathVariable Long id,
+
+            @Parameter(
+                    description = "What to do with the author's posts: delete or reassign",
+                    example = "reassign"
+            )
+            @RequestParam(required = false) String posts,
+
+            @Parameter(
+                    description = "Author who receives the posts, required with posts=reassign",
+                    example = "2"
+            )
+            @RequestParam(required = false) Long reassignTo
     ) {
-        authorService.deleteAuthor(id);
+        AuthorRemovalDTO removal = authorRemovalService.remove(id, AuthorRemovalService.PostHandling.parse(posts), reassignTo);
 
-        Map<String, String> response = new HashMap<>();
+        Map<String, Object> response = new HashMap<>();
         response.put("message", "Author with id " + id + " deleted successfully");
+        response.put("posts", removal.getPosts());
+        response.put("reassignTo", removal.getReassignTo());
+        response.put("processedPosts", removal.getProcessedPosts());
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Delete author in the background",
+            description = "Starts removing an author with very many posts. The posts are deleted (posts=delete) or handed to reassignTo (posts=reassign) in chunks of their own transactions, then the author is deleted. Returns the job right away; follow it with GET /api/authors/removals/{jobId}. Asking again while a removal of the same author is pending returns that job."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Removal queued",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AuthorRemovalDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Removal Queued",
+                                    value = """
+                    {
+                        "jobId": "1f0c3a52-8d4e-4b8e-9a51-2f4a6c1d7e90",
+                        "authorId": 1,
+                        "posts": "DELETE",
+                        "reassignTo": null,
+                        "status": "QUEUED",
+                        "totalPosts": 48210,
+                        "processedPosts": 0,
+                        "error": null,
+                        "startedAt": null,
+                        "finishedAt": null
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "posts missing or unknown, or reassignTo missing or not allowed"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Author (or reassignTo author) not found"
+            )
+    })
+    @PostMapping("/{id}/removal")
+    public ResponseEntity<AuthorRemovalDTO> startAuthorRemoval(
+            @Parameter(
+                    description = "ID of the author to delete",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long id,
+
+            @Parameter(
+                    description = "What to do with the author's posts: delete or reassign",
+                    required = true,
+                    example = "delete"
+            )
+            @RequestParam String posts,
+
+            @Parameter(
+                    description = "Author who receives the posts, required with posts=reassign",
+                    example = "2"
+            )
+            @RequestParam(required = false) Long reassignTo
+    ) {
+        AuthorRemovalDTO removal = authorRemovalService.startRemoval(id, AuthorRemovalService.PostHandling.parse(posts), reassignTo);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(removal);
+    }
+
+    @Operation(
+            summary = "Get background author removal",
+            description = "Progress of a removal started with POST /api/authors/{id}/removal. Finished jobs are kept for a while (blog.author-removal.finished-jobs-kept) and by the instance that ran them only."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Removal progress",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AuthorRemovalDTO.class),
+                            examples = @ExampleObject(
+                                    name = "Removal Running",
+                                    value = """
+                    {
+                        "jobId": "1f0c3a52-8d4e-4b8e-9a51-2f4a6c1d7e90",
+                        "authorId": 1,
+                        "posts": "DELETE",
+                        "reassignTo": null,
+                        "status": "RUNNING",
+                        "totalPosts": 48210,
+                        "processedPosts": 12500,
+                        "error": null,
+                        "startedAt": "2024-01-20T08:15:00",
+                        "finishedAt": null
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No such removal job"
+            )
+    })
+    @GetMapping("/removals/{jobId}")
+    public ResponseEntity<AuthorRemovalDTO> getAuthorRemoval(
+            @Parameter(
+                    description = "Job id returned when the removal was started",
+                    required = true
+            )
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(authorRemovalService.getRemoval(jobId));
+    }
+
     // BONUS: Additional professional endpoints
 
     @Operation(
@@ -356,27 +626,102 @@ public class AuthorController {
     }
 
     @Operation(
-            summary = "Search authors by name",
-            description = "Search for authors by name using partial matching (case-insensitive)"
+            summary = "Get several authors by id",
+            description = "Resolves up to 100 ids with two queries (authors, then their post counts). Items come back in the requested order, with null in place of (and an entry in missingIds for) every id that does not exist. Posts are not embedded, page them with /api/posts/author/{id}"
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "Search completed successfully",
-            content = @Content(
-                    mediaType = "application/json",
-                    schema = @Schema(implementation = Author.class)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Authors retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Batch With Missing Id",
+                                    value = """
+                    {
+                        "items": [
+                            null,
+                            {
+                                "id": 1,
+                                "name": "John Doe",
+                                "email": "john@example.com",
+                                "postCount": 12
+                            }
+                        ],
+                        "missingIds": [42]
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No ids, or more than 100 ids"
+            )
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<BatchResult<AuthorDTO>> getAuthorsByIds(
+            @Parameter(
+                    description = "Comma-separated author ids, at most 100",
+                    required = true,
+                    example = "42,1"
             )
+            @RequestParam List<Long> ids
+    ) {
+        return ResponseEntity.ok(authorService.getAuthorsByIds(ids));
+    }
+
+    @Operation(
+            summary = "Search authors by name",
+            description = "Search for authors by name using partial matching (case-insensitive), one page at a time. Entries are author list views and pages work as in GET /api/authors"
     )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ListPage.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, page size above the maximum, page too deep, both page and cursor, or posts outside 0-20"
+            )
+    })
     @GetMapping("/search")
-    public ResponseEntity<List<Author>> searchAuthors(
+    public ResponseEntity<ListPage<AuthorDTO>> searchAuthors(
             @Parameter(
                     description = "Name or partial name to search for",
                     required = true,
                     example = "john"
             )
-            @RequestParam String name
+            @RequestParam String name,
+
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset authors",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Authors per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(
+                    description = "Newest post summaries to embed per author, at most 20",
+                    example = "3"
+            )
+            @RequestParam(defaultValue = "0") int posts
     ) {
-        List<Author> authors = authorService.searchAuthorsByName(name);
+        ListPage<AuthorDTO> authors = authorService.searchAuthorsByName(name, pagination.resolve(page, size, cursor), posts);
         return ResponseEntity.ok(authors);
     }
 
@@ -418,7 +763,7 @@ public class AuthorController {
 
     @Operation(
             summary = "Get authors with post counts",
-            description = "Retrieves all authors along with their respective blog post counts"
+            description = "Retrieves authors ordered by id along with their respective blog post counts, one page at a time. The counts of a page come from one grouped query; pages work as in GET /api/authors"
     )
     @ApiResponse(
             responseCode = "200",
@@ -428,29 +773,52 @@ public class AuthorController {
                     examples = @ExampleObject(
                             name = "Authors with Post Counts",
                             value = """
-                [
-                    {
-                        "id": 1,
-                        "name": "John Doe",
-                        "email": "john.doe@example.com",
-                        "bio": "Experienced developer",
-                        "postCount": 15
-                    },
-                    {
-                        "id": 2,
-                        "name": "Jane Smith",
-                        "email": "jane.smith@example.com",
-                        "bio": "Full-stack developer",
-                        "postCount": 8
-                    }
-                ]
+                {
+                    "items": [
+                            {
+                                "id": 1,
+                                "name": "John Doe",
+                                "email": "john.doe@example.com",
+                                "bio": "Experienced developer",
+                                "postCount": 15
+                            },
+                            {
+                                "id": 2,
+                                "name": "Jane Smith",
+                                "email": "jane.smith@example.com",
+                                "bio": "Full-stack developer",
+                                "postCount": 8
+                            }
+                    ],
+                    "page": 0,
+                    "size": 2,
+                    "hasMore": true,
+                    "nextCursor": "Mg"
+                }
                 """
                     )
             )
     )
     @GetMapping("/with-counts")
-    public ResponseEntity<List<Map<String, Object>>> getAuthorsWithPostCounts() {
-        List<Map<String, Object>> authorsWithCounts = authorService.getAuthorsWithPostCounts();
+    public ResponseEntity<ListPage<Map<String, Object>>> getAuthorsWithPostCounts(
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset authors",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Authors per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor
+    ) {
+        ListPage<Map<String, Object>> authorsWithCounts = authorService.getAuthorsWithPostCounts(pagination.resolve(page, size, cursor));
         return ResponseEntity.ok(authorsWithCounts);
     }
-}
\ No newline at end of file
+}
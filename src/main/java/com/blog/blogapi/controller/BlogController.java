@@ -1,10 +1,17 @@
 package com.blog.blogapi.controller;
 
+import com.blog.blogapi.DTO.ArchiveMonthDTO;
+import com.blog.blogapi.DTO.BatchResult;
 import com.blog.blogapi.DTO.UpdateBlogPostDTO;
-import com.blog.blogapi.mapper.BlogPostMapper;
 import com.blog.blogapi.model.BlogPost;
-import com.blog.blogapi.DTO.BlogPostDTO;
+import com.blog.blogapi.DTO.BulkCategoryRequest;
+import com.blog.blogapi.DTO.FeedPage;
+import com.blog.blogapi.DTO.ListPage;
+import com.blog.blogapi.DTO.PostSummaryDTO;
+import com.blog.blogapi.DTO.TrendingPostDTO;
 import com.blog.blogapi.service.BlogService;
+import com.blog.blogapi.service.Pagination;
+import com.blog.blogapi.service.PostHtmlService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,9 +24,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,11 +40,11 @@ import java.util.*;
 public class BlogController {
 
     private final BlogService blogService;
-    private final BlogPostMapper blogPostMapper;
+    private final Pagination pagination;
 
     @Operation(
             summary = "Get paginated posts with sorting",
-            description = "Retrieves blog posts with pagination and sorting capabilities. Supports sorting by any field (id, title, createdAt, etc.)"
+            description = "Retrieves blog posts with pagination and sorting capabilities. Supports sorting by any field (id, title, createdAt, etc.). Entries carry no content; read it from /api/posts/{id} or request it with ?fields=content"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -53,7 +60,7 @@ public class BlogController {
                             {
                                 "id": 1,
                                 "title": "Introduction to Spring Boot",
-                                "content": "Spring Boot makes it easy to create stand-alone...",
+                                "excerpt": "Spring Boot makes it easy to create stand-alone...",
                                 "createdAt": "2024-01-15T10:30:00",
                                 "author": {"id": 1, "name": "John Doe"},
                                 "category": {"id": 1, "name": "Technology"}
@@ -76,7 +83,7 @@ public class BlogController {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Invalid pagination parameters"
+                    description = "Invalid pagination parameters, page size above the maximum or page too deep"
             )
     })
     @GetMapping("/page")
@@ -88,7 +95,7 @@ public class BlogController {
             @RequestParam(defaultValue = "0") int page,
 
             @Parameter(
-                    description = "Number of posts per page",
+                    description = "Number of posts per page, at most blog.pagination.max-page-size (100 by default)",
                     example = "5"
             )
             @RequestParam(defaultValue = "5") int size,
@@ -99,52 +106,148 @@ public class BlogController {
             )
             @RequestParam(defaultValue = "id") String sortedBy
     ) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortedBy));
+        Pageable pageable = pagination.pageable(page, size, Sort.by(sortedBy));
         Page<BlogPost> posts = blogService.getPaginatedPosts(pageable);
         return ResponseEntity.ok(posts);
     }
 
     @Operation(
-            summary = "Search posts by title",
-            description = "Search for blog posts using a keyword that matches the title (case-insensitive partial matching)"
+            summary = "Get paginated posts with selected fields",
+            description = "Same as /page, but only the attributes listed in 'fields' are loaded and returned"
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "Search completed successfully",
-            content = @Content(
-                    mediaType = "application/json",
-                    schema = @Schema(implementation = BlogPost.class),
-                    examples = @ExampleObject(
-                            name = "Search Results",
-                            value = """
-                [
-                    {
-                        "id": 1,
-                        "title": "Spring Boot Tutorial",
-                        "content": "Learn Spring Boot basics...",
-                        "createdAt": "2024-01-15T10:30:00"
-                    },
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved paginated posts",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Sparse Page",
+                                    value = """
                     {
-                        "id": 5,
-                        "title": "Advanced Spring Concepts",
-                        "content": "Deep dive into Spring...",
-                        "createdAt": "2024-01-20T14:15:00"
+                        "content": [
+                            {"id": 1, "title": "Introduction to Spring Boot"},
+                            {"id": 2, "title": "Docker Containerization"}
+                        ],
+                        "totalElements": 25,
+                        "totalPages": 13,
+                        "number": 0,
+                        "size": 2
                     }
-                ]
-                """
+                    """
+                            )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field, invalid pagination parameters, page size above the maximum or page too deep"
+            )
+    })
+    @GetMapping(value = "/page", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getPaginatedPostFields(
+            @Parameter(
+                    description = "Page number (0-based)",
+                    example = "0"
+            )
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(
+                    description = "Number of posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "5"
+            )
+            @RequestParam(defaultValue = "5") int size,
+
+            @Parameter(
+                    description = "Field to sort by (id, title, date, etc.)",
+                    example = "title"
+            )
+            @RequestParam(defaultValue = "id") String sortedBy,
+
+            @Parameter(
+                    description = "Comma-separated attributes to return (id, title, content, date, authorId, excerpt, wordCount, readingTimeMinutes). Only these columns are read from the database; id is always included",
+                    required = true,
+                    example = "id,title"
             )
+            @RequestParam Set<String> fields
+    ) {
+        Pageable pageable = pagination.pageable(page, size, Sort.by(sortedBy));
+        Page<Map<String, Object>> posts = blogService.getPaginatedPostFields(pageable, fields);
+        return ResponseEntity.ok(posts);
+    }
+
+    @Operation(
+            summary = "Search posts by title",
+            description = "Search for blog posts using a keyword that matches the title (case-insensitive partial matching), newest first, one page at a time. Page by number (page, size) or by cursor (cursor, size); either way the response carries nextCursor and no total count. Entries carry no content; read it from /api/posts/{id} or request it with ?fields=content"
     )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Search Results",
+                                    value = """
+                {
+                    "items": [
+                        {
+                            "id": 5,
+                            "title": "Advanced Spring Concepts",
+                            "date": "2024-01-20",
+                            "excerpt": "Deep dive into Spring...",
+                            "wordCount": 2150,
+                            "readingTimeMinutes": 11
+                        },
+                        {
+                            "id": 1,
+                            "title": "Spring Boot Tutorial",
+                            "date": "2024-01-15",
+                            "excerpt": "Learn Spring Boot basics...",
+                            "wordCount": 980,
+                            "readingTimeMinutes": 5
+                        }
+                    ],
+                    "page": 0,
+                    "size": 2,
+                    "hasMore": true,
+                    "nextCursor": "MjAyNC0wMS0xNV8x"
+                }
+                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty keyword, invalid cursor, page size above the maximum, page too deep, or both page and cursor"
+            )
+    })
     @GetMapping("/search")
-    public ResponseEntity<List<BlogPost>> searchPosts(
+    public ResponseEntity<ListPage<BlogPost>> searchPosts(
             @Parameter(
                     description = "Keyword to search for in post titles",
                     required = true,
                     example = "spring"
             )
-            @RequestParam String keyword
+            @RequestParam String keyword,
+
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset posts",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor
     ) {
-        List<BlogPost> posts = blogService.searchPostByTitle(keyword);
+        ListPage<BlogPost> posts = blogService.searchPosts(keyword, pagination.resolve(page, size, cursor));
         return ResponseEntity.ok(posts);
     }
 
@@ -208,7 +311,7 @@ public class BlogController {
 
     @Operation(
             summary = "Get post by ID",
-            description = "Retrieves a specific blog post by its unique identifier"
+            description = "Retrieves a specific blog post by its unique identifier and counts the view. viewCount includes views not yet written to the database"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -224,6 +327,7 @@ public class BlogController {
                         "id": 1,
                         "title": "Introduction to Microservices",
                         "content": "Microservices architecture is a method of developing software systems...",
+                        "viewCount": 128,
                         "createdAt": "2024-01-15T10:30:00",
                         "updatedAt": "2024-01-16T09:45:00",
                         "author": {
@@ -253,59 +357,543 @@ public class BlogController {
                     required = true,
                     example = "1"
             )
-            @PathVariable Long id
+            @PathVariable Long id
+    ) {
+        BlogPost post = blogService.viewPost(id);
+        return ResponseEntity.ok(post);
+    }
+
+    @Operation(
+            summary = "Get selected fields of a post",
+            description = "Retrieves only the attributes listed in 'fields' for a blog post, e.g. ?fields=id,title skips loading the content"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Post found successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Sparse Post",
+                                    value = """
+                    {
+                        "id": 1,
+                        "title": "Introduction to Microservices"
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field requested"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Post not found"
+            )
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getPostFieldsById(
+            @Parameter(
+                    description = "ID of the post to retrieve",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long id,
+
+            @Parameter(
+                    description = "Comma-separated attributes to return (id, title, content, date, authorId, excerpt, wordCount, readingTimeMinutes). Only these columns are read from the database; id is always included",
+                    required = true,
+                    example = "id,title"
+            )
+            @RequestParam Set<String> fields
+    ) {
+        Map<String, Object> post = blogService.getPostFieldsById(id, fields);
+        return ResponseEntity.ok(post);
+    }
+
+    @Operation(
+            summary = "Get a post rendered as HTML",
+            description = "Returns the post's Markdown content as sanitized HTML. The HTML is rendered once per distinct content and cached; the ETag is the content hash, so unchanged posts answer If-None-Match with 304"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Rendered post body",
+                    content = @Content(
+                            mediaType = "text/html",
+                            examples = @ExampleObject(
+                                    name = "Rendered Post",
+                                    value = "<h1>Introduction to Microservices</h1>\n<p>Microservices architecture is a method of developing software systems...</p>\n"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Content unchanged since the ETag sent in If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Post not found or has no content"
+            )
+    })
+    @GetMapping(value = "/{id}/html", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<String> getPostHtml(
+            @Parameter(
+                    description = "ID of the post to render",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long id
+    ) {
+        PostHtmlService.PostHtml html = blogService.getPostHtml(id);
+        return ResponseEntity.ok()
+                .eTag(html.contentHash())
+                .contentType(MediaType.TEXT_HTML)
+                .body(html.html());
+    }
+
+    @Operation(
+            summary = "Get posts by category",
+            description = "Retrieves the blog posts that belong to a specific category, newest first, one page at a time. Page by number (page, size) or by cursor (cursor, size); either way the response carries nextCursor and no total count. Entries carry no content; read it from /api/posts/{id} or request it with ?fields=content"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Posts retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Posts Page",
+                                    value = """
+                {
+                    "items": [
+                        {
+                            "id": 5,
+                            "title": "Advanced Spring Concepts",
+                            "date": "2024-01-20",
+                            "excerpt": "Deep dive into Spring...",
+                            "wordCount": 2150,
+                            "readingTimeMinutes": 11
+                        },
+                        {
+                            "id": 1,
+                            "title": "Spring Boot Tutorial",
+                            "date": "2024-01-15",
+                            "excerpt": "Learn Spring Boot basics...",
+                            "wordCount": 980,
+                            "readingTimeMinutes": 5
+                        }
+                    ],
+                    "page": 0,
+                    "size": 2,
+                    "hasMore": true,
+                    "nextCursor": "MjAyNC0wMS0xNV8x"
+                }
+                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, page size above the maximum, page too deep, or both page and cursor"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found"
+            )
+    })
+    @GetMapping("/category/{categoryId}")
+    public ResponseEntity<ListPage<BlogPost>> getPostsByCategory(
+            @Parameter(
+                    description = "ID of the category to filter posts by",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long categoryId,
+
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset posts",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor
+    ) {
+        ListPage<BlogPost> posts = blogService.getPostsByCategory(categoryId, pagination.resolve(page, size, cursor));
+        return ResponseEntity.ok(posts);
+    }
+
+    @Operation(
+            summary = "Get posts by author",
+            description = "Retrieves the blog posts written by a specific author, newest first, one page at a time. Page by number (page, size) or by cursor (cursor, size); either way the response carries nextCursor and no total count. Entries carry no content; read it from /api/posts/{id} or request it with ?fields=content"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Posts retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Posts Page",
+                                    value = """
+                {
+                    "items": [
+                        {
+                            "id": 5,
+                            "title": "Advanced Spring Concepts",
+                            "date": "2024-01-20",
+                            "excerpt": "Deep dive into Spring...",
+                            "wordCount": 2150,
+                            "readingTimeMinutes": 11
+                        },
+                        {
+                            "id": 1,
+                            "title": "Spring Boot Tutorial",
+                            "date": "2024-01-15",
+                            "excerpt": "Learn Spring Boot basics...",
+                            "wordCount": 980,
+                            "readingTimeMinutes": 5
+                        }
+                    ],
+                    "page": 0,
+                    "size": 2,
+                    "hasMore": true,
+                    "nextCursor": "MjAyNC0wMS0xNV8x"
+                }
+                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, page size above the maximum, page too deep, or both page and cursor"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Author not found"
+            )
+    })
+    @GetMapping("/author/{authorId}")
+    public ResponseEntity<ListPage<BlogPost>> getPostsByAuthor(
+            @Parameter(
+                    description = "ID of the author to filter posts by",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long authorId,
+
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset posts",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor
+    ) {
+        ListPage<BlogPost> posts = blogService.getPostsByAuthor(authorId, pagination.resolve(page, size, cursor));
+        return ResponseEntity.ok(posts);
+    }
+
+    @Operation(
+            summary = "Get a page of the category feed",
+            description = "Returns the posts of a category newest first, one page at a time. Pass the returned nextCursor as 'cursor' to fetch the next page; pages are located by (date, id) rather than by offset, so deep pages cost the same as the first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Feed page retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Feed Page",
+                                    value = """
+                {
+                    "items": [
+                        {
+                            "id": 42,
+                            "title": "Docker Containerization",
+                            "summary": "Learn how to containerize your applications...",
+                            "authorId": 2,
+                            "author": "Jane Smith",
+                            "publishedDate": "2024-01-18",
+                            "wordCount": 1240,
+                            "readingTimeMinutes": 7
+                        }
+                    ],
+                    "nextCursor": "MjAyNC0wMS0xOF80Mg",
+                    "hasMore": true
+                }
+                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found"
+            )
+    })
+    @GetMapping("/category/{categoryId}/feed")
+    public ResponseEntity<FeedPage<PostSummaryDTO>> getCategoryFeed(
+            @Parameter(
+                    description = "ID of the category",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long categoryId,
+
+            @Parameter(
+                    description = "Cursor from the previous page's nextCursor; omit for the first page"
+            )
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(
+                    description = "Number of posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        FeedPage<PostSummaryDTO> feed = blogService.getCategoryFeed(categoryId, cursor, size);
+        return ResponseEntity.ok(feed);
+    }
+
+    @Operation(
+            summary = "Get a page of the author feed",
+            description = "Returns an author's posts newest first, one page at a time. Pass the returned nextCursor as 'cursor' to fetch the next page; pages are located by (date, id) rather than by offset, so deep pages cost the same as the first"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Feed page retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Feed Page",
+                                    value = """
+                {
+                    "items": [
+                        {
+                            "id": 42,
+                            "title": "Docker Containerization",
+                            "summary": "Learn how to containerize your applications...",
+                            "authorId": 2,
+                            "author": "Jane Smith",
+                            "publishedDate": "2024-01-18",
+                            "wordCount": 1240,
+                            "readingTimeMinutes": 7
+                        }
+                    ],
+                    "nextCursor": "MjAyNC0wMS0xOF80Mg",
+                    "hasMore": true
+                }
+                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Author not found"
+            )
+    })
+    @GetMapping("/author/{authorId}/feed")
+    public ResponseEntity<FeedPage<PostSummaryDTO>> getAuthorFeed(
+            @Parameter(
+                    description = "ID of the author",
+                    required = true,
+                    example = "1"
+            )
+            @PathVariable Long authorId,
+
+            @Parameter(
+                    description = "Cursor from the previous page's nextCursor; omit for the first page"
+            )
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(
+                    description = "Number of posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(defaultValue = "20") int size
     ) {
-        BlogPost post = blogService.getPostById(id);
-        return ResponseEntity.ok(post);
+        FeedPage<PostSummaryDTO> feed = blogService.getAuthorFeed(authorId, cursor, size);
+        return ResponseEntity.ok(feed);
     }
 
     @Operation(
-            summary = "Get posts by category",
-            description = "Retrieves all blog posts that belong to a specific category"
+            summary = "Get the post archive",
+            description = "Returns every month that has posts, newest first, with the number of posts dated in it. Counts of past months are kept in memory; only the current month is counted per request"
     )
     @ApiResponse(
             responseCode = "200",
-            description = "Posts retrieved successfully",
+            description = "Archive months retrieved successfully",
             content = @Content(
                     mediaType = "application/json",
-                    schema = @Schema(implementation = BlogPost.class)
+                    examples = @ExampleObject(
+                            name = "Archive",
+                            value = """
+                [
+                    { "year": 2024, "month": 2, "postCount": 3 },
+                    { "year": 2024, "month": 1, "postCount": 12 },
+                    { "year": 2023, "month": 12, "postCount": 7 }
+                ]
+                """
+                    )
             )
     )
-    @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<BlogPost>> getPostsByCategory(
+    @GetMapping("/archive")
+    public ResponseEntity<List<ArchiveMonthDTO>> getArchive() {
+        List<ArchiveMonthDTO> months = blogService.getArchiveMonths();
+        return ResponseEntity.ok(months);
+    }
+
+    @Operation(
+            summary = "Get a page of an archive month",
+            description = "Returns the posts dated in one month newest first, one page at a time. Pass the returned nextCursor as 'cursor' to fetch the next page"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Archive page retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Archive Page",
+                                    value = """
+                {
+                    "items": [
+                        {
+                            "id": 42,
+                            "title": "Docker Containerization",
+                            "summary": "Learn how to containerize your applications...",
+                            "authorId": 2,
+                            "author": "Jane Smith",
+                            "publishedDate": "2024-01-18",
+                            "wordCount": 1240,
+                            "readingTimeMinutes": 7
+                        }
+                    ],
+                    "nextCursor": "MjAyNC0wMS0xOF80Mg",
+                    "hasMore": true
+                }
+                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid month, cursor or page size"
+            )
+    })
+    @GetMapping("/archive/{year}/{month}")
+    public ResponseEntity<FeedPage<PostSummaryDTO>> getArchiveMonth(
             @Parameter(
-                    description = "ID of the category to filter posts by",
+                    description = "Year",
+                    required = true,
+                    example = "2024"
+            )
+            @PathVariable int year,
+
+            @Parameter(
+                    description = "Month of the year (1-12)",
                     required = true,
                     example = "1"
             )
-            @PathVariable Long categoryId
+            @PathVariable int month,
+
+            @Parameter(
+                    description = "Cursor from the previous page's nextCursor; omit for the first page"
+            )
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(
+                    description = "Number of posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<BlogPost> posts = blogService.getPostsByCategory(categoryId);
-        return ResponseEntity.ok(posts);
+        FeedPage<PostSummaryDTO> page = blogService.getArchiveFeed(year, month, cursor, size);
+        return ResponseEntity.ok(page);
     }
 
     @Operation(
-            summary = "Get posts by author",
-            description = "Retrieves all blog posts written by a specific author"
+            summary = "Get selected fields of posts by author",
+            description = "Retrieves only the attributes listed in 'fields' for the posts written by a specific author, newest first, one page at a time. Paged like GET /api/posts/author/{authorId}"
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "Posts retrieved successfully",
-            content = @Content(
-                    mediaType = "application/json",
-                    schema = @Schema(implementation = BlogPost.class)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Posts retrieved successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field, invalid cursor, page size above the maximum, page too deep, or both page and cursor"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Author not found"
             )
-    )
-    @GetMapping("/author/{authorId}")
-    public ResponseEntity<List<BlogPost>> getPostsByAuthor(
+    })
+    @GetMapping(value = "/author/{authorId}", params = "fields")
+    public ResponseEntity<ListPage<Map<String, Object>>> getPostFieldsByAuthor(
             @Parameter(
                     description = "ID of the author to filter posts by",
                     required = true,
                     example = "1"
             )
-            @PathVariable Long authorId
+            @PathVariable Long authorId,
+
+            @Parameter(
+                    description = "Comma-separated attributes to return (id, title, content, date, authorId, excerpt, wordCount, readingTimeMinutes). Only these columns are read from the database; id is always included",
+                    required = true,
+                    example = "id,title"
+            )
+            @RequestParam Set<String> fields,
+
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset posts",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor
     ) {
-        List<BlogPost> posts = blogService.getPostsByAuthor(authorId);
+        ListPage<Map<String, Object>> posts = blogService.getPostFieldsByAuthor(authorId, fields, pagination.resolve(page, size, cursor));
         return ResponseEntity.ok(posts);
     }
 
@@ -385,6 +973,106 @@ public class BlogController {
         return ResponseEntity.ok(updatedPost);
     }
 
+    @Operation(
+            summary = "Assign category to many posts",
+            description = "Attaches an existing category to the selected posts (an id list or every post of an author) in one statement. Posts that already have the category and unknown post ids are skipped"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Posts updated",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Bulk Result",
+                                    value = """
+                    {
+                        "categoryId": 2,
+                        "postsChanged": 1250
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Neither or both of postIds and authorId given, or too many post ids"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found"
+            )
+    })
+    @PostMapping("/category/{categoryId}/bulk-assign")
+    public ResponseEntity<Map<String, Object>> assignCategoryToPosts(
+            @Parameter(
+                    description = "ID of the category",
+                    required = true,
+                    example = "2"
+            )
+            @PathVariable Long categoryId,
+            @RequestBody BulkCategoryRequest request
+    ) {
+        // Number of posts that gained the category
+        int changed = blogService.addCategoryToPosts(categoryId, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("categoryId", categoryId);
+        response.put("postsChanged", changed);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Remove category from many posts",
+            description = "Detaches a category from the selected posts (an id list or every post of an author) in one statement"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Posts updated",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Bulk Result",
+                                    value = """
+                    {
+                        "categoryId": 2,
+                        "postsChanged": 1250
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Neither or both of postIds and authorId given, or too many post ids"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Category not found"
+            )
+    })
+    @PostMapping("/category/{categoryId}/bulk-remove")
+    public ResponseEntity<Map<String, Object>> removeCategoryFromPosts(
+            @Parameter(
+                    description = "ID of the category",
+                    required = true,
+                    example = "2"
+            )
+            @PathVariable Long categoryId,
+            @RequestBody BulkCategoryRequest request
+    ) {
+        // Number of posts that lost the category
+        int changed = blogService.removeCategoryFromPosts(categoryId, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("categoryId", categoryId);
+        response.put("postsChanged", changed);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Update existing post",
             description = "Updates an existing blog post with new content and metadata"
@@ -432,9 +1120,7 @@ public class BlogController {
             )
             @Valid @RequestBody UpdateBlogPostDTO updateDTO
     ) {
-        BlogPost existingPost = blogService.getPostById(id);
-        blogPostMapper.updateEntityFromDTO(updateDTO, existingPost);
-        BlogPost updatedPost = blogService.createPost(existingPost);
+        BlogPost updatedPost = blogService.replacePost(id, updateDTO);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "Post updated successfully");
@@ -487,43 +1173,169 @@ public class BlogController {
     }
 
     @Operation(
-            summary = "Get all post summaries",
-            description = "Retrieves a simplified view (DTO) of all blog posts with essential information only"
+            summary = "Get several posts by id",
+            description = "Resolves up to 100 ids with a single query. Items come back in the requested order, with null in place of (and an entry in missingIds for) every id that does not exist"
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "Post summaries retrieved successfully",
-            content = @Content(
-                    mediaType = "application/json",
-                    schema = @Schema(implementation = BlogPostDTO.class),
-                    examples = @ExampleObject(
-                            name = "Post Summaries",
-                            value = """
-                [
-                    {
-                        "id": 1,
-                        "title": "Spring Boot Basics",
-                        "summary": "A brief introduction to Spring Boot framework...",
-                        "author": "John Doe",
-                        "category": "Technology",
-                        "publishedDate": "2024-01-15"
-                    },
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Posts retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Batch With Missing Id",
+                                    value = """
                     {
-                        "id": 2,
-                        "title": "Docker Containerization",
-                        "summary": "Learn how to containerize your applications...",
-                        "author": "Jane Smith",
-                        "category": "DevOps",
-                        "publishedDate": "2024-01-18"
+                        "items": [
+                            {
+                                "id": 2,
+                                "title": "Docker Containerization",
+                                "content": "Learn how to containerize your applications...",
+                                "date": "2024-01-18"
+                            },
+                            null
+                        ],
+                        "missingIds": [99]
                     }
-                ]
-                """
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No ids, or more than 100 ids"
+            )
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<BatchResult<BlogPost>> getPostsByIds(
+            @Parameter(
+                    description = "Comma-separated post ids, at most 100",
+                    required = true,
+                    example = "2,99"
+            )
+            @RequestParam List<Long> ids
+    ) {
+        return ResponseEntity.ok(blogService.getPostsByIds(ids));
+    }
+
+    @Operation(
+            summary = "Get trending posts",
+            description = "Posts ranked by recent views and edits, with older activity decaying (1 hour half-life by default). The list is rebuilt every few seconds, requests never compute the ranking"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Trending posts retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Trending Posts",
+                                    value = """
+                    [
+                        {
+                            "post": {
+                                "id": 2,
+                                "title": "Docker Containerization",
+                                "summary": "Learn how to containerize your applications...",
+                                "authorId": 2,
+                                "author": "Jane Smith",
+                                "publishedDate": "2024-01-18",
+                                "wordCount": 1240,
+                                "readingTimeMinutes": 7
+                            },
+                            "score": 412.7
+                        }
+                    ]
+                    """
+                            )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Limit outside 1 to 100"
+            )
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPostDTO>> getTrendingPosts(
+            @Parameter(
+                    description = "Number of posts to return, at most 100",
+                    example = "10"
             )
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(blogService.getTrendingPosts(limit));
+    }
+
+    @Operation(
+            summary = "Get post summaries",
+            description = "Retrieves a list view of the blog posts, newest first, one page at a time: excerpt, word count and reading time are precomputed when a post is written, so the content is never loaded. Page by number (page, size) or by cursor (cursor, size)"
     )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Post summaries retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Post Summaries Page",
+                                    value = """
+                {
+                    "items": [
+                        {
+                            "id": 2,
+                            "title": "Docker Containerization",
+                            "summary": "Learn how to containerize your applications...",
+                            "authorId": 2,
+                            "author": "Jane Smith",
+                            "publishedDate": "2024-01-18",
+                            "wordCount": 1240,
+                            "readingTimeMinutes": 7
+                        },
+                        {
+                            "id": 1,
+                            "title": "Spring Boot Basics",
+                            "summary": "A brief introduction to Spring Boot framework...",
+                            "authorId": 1,
+                            "author": "John Doe",
+                            "publishedDate": "2024-01-15",
+                            "wordCount": 860,
+                            "readingTimeMinutes": 5
+                        }
+                    ],
+                    "page": 0,
+                    "size": 2,
+                    "hasMore": true,
+                    "nextCursor": "MjAyNC0wMS0xNV8x"
+                }
+                """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, page size above the maximum, page too deep, or both page and cursor"
+            )
+    })
     @GetMapping("/summaries")
-    public ResponseEntity<List<BlogPostDTO>> getAllPostSummaries() {
-        List<BlogPostDTO> summaries = blogService.getAllPostsDTO();
+    public ResponseEntity<ListPage<PostSummaryDTO>> getAllPostSummaries(
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset posts",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor
+    ) {
+        ListPage<PostSummaryDTO> summaries = blogService.getPostSummaries(pagination.resolve(page, size, cursor));
         return ResponseEntity.ok(summaries);
     }
 
@@ -531,25 +1343,39 @@ public class BlogController {
 
     @Operation(
             summary = "Get all posts",
-            description = "Retrieves a simple list of all blog posts (without pagination)"
+            description = "Retrieves the blog posts newest first, one page at a time. Page by number (page, size) or by cursor (cursor, size); either way the response carries nextCursor and no total count. Entries carry no content; read it from /api/posts/{id}"
     )
-    @ApiResponse(
-            responseCode = "200",
-            description = "All posts retrieved successfully",
-            content = @Content(
-                    mediaType = "application/json",
-                    schema = @Schema(implementation = BlogPost.class)
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Posts retrieved successfully"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, page size above the maximum, page too deep, or both page and cursor"
             )
-    )
+    })
     @GetMapping
-    public ResponseEntity<List<BlogPost>> getAllPosts() {
-        // You'd need to add this method to your BlogService
-        // List<BlogPost> posts = blogService.getAllPosts();
-        // return ResponseEntity.ok(posts);
-
-        // For now, redirect to summaries
-        List<BlogPostDTO> summaries = blogService.getAllPostsDTO();
-        return ResponseEntity.ok(Collections.emptyList()); // Placeholder
+    public ResponseEntity<ListPage<BlogPost>> getAllPosts(
+            @Parameter(
+                    description = "Zero-based page number (offset mode, the default); offset paging stops after blog.pagination.max-offset posts",
+                    example = "0"
+            )
+            @RequestParam(required = false) Integer page,
+
+            @Parameter(
+                    description = "Posts per page, at most blog.pagination.max-page-size (100 by default)",
+                    example = "20"
+            )
+            @RequestParam(required = false) Integer size,
+
+            @Parameter(
+                    description = "nextCursor of the previous page (cursor mode); pass it empty for the first page. Not combined with page"
+            )
+            @RequestParam(required = false) String cursor
+    ) {
+        ListPage<BlogPost> posts = blogService.getPosts(pagination.resolve(page, size, cursor));
+        return ResponseEntity.ok(posts);
     }
 
     @Operation(
@@ -0,0 +1,77 @@
+package com.blog.blogapi.controller;
+
+import com.blog.blogapi.DTO.BatchResult;
+import com.blog.blogapi.DTO.CategoryDTO;
+import com.blog.blogapi.service.CategoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*") // Configure properly for production
+@Tag(name = "Category Management", description = "APIs for reading blog categories")
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    @Operation(
+            summary = "Get several categories by id",
+            description = "Resolves up to 100 ids with a single query. Items come back in the requested order, with null in place of (and an entry in missingIds for) every id that does not exist"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Categories retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Batch With Missing Id",
+                                    value = """
+                    {
+                        "items": [
+                            {
+                                "id": 3,
+                                "name": "DevOps",
+                                "description": "Deployment and operations"
+                            },
+                            null,
+                            {
+                                "id": 1,
+                                "name": "Java",
+                                "description": "Everything about Java"
+                            }
+                        ],
+                        "missingIds": [7]
+                    }
+                    """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No ids, or more than 100 ids"
+            )
+    })
+    @GetMapping("/batch")
+    public ResponseEntity<BatchResult<CategoryDTO>> getCategoriesByIds(
+            @Parameter(
+                    description = "Comma-separated category ids, at most 100",
+                    required = true,
+                    example = "3,7,1"
+            )
+            @RequestParam List<Long> ids
+    ) {
+        return ResponseEntity.ok(categoryService.getCategoriesByIds(ids));
+    }
+}
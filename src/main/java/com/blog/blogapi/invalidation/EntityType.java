@@ -0,0 +1,31 @@
+package com.blog.blogapi.invalidation;
+
+/**
+ * Kinds of cached data a write can invalidate, with the one-letter code used on the wire
+ */
+public enum EntityType {
+    POST('P'),
+    AUTHOR('A'),
+    CATEGORY('C'),
+    // Post counts of one calendar month, id is year * 100 + month
+    ARCHIVE_MONTH('M');
+
+    private final char code;
+
+    EntityType(char code) {
+        this.code = code;
+    }
+
+    char code() {
+        return code;
+    }
+
+    static EntityType fromCode(char code) {
+        for (EntityType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entity code " + code);
+    }
+}
@@ -0,0 +1,31 @@
+package com.blog.blogapi.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Loopback transport: batches reach the receivers started on this same object, synchronously
+ * Used for a single instance and in tests, where several buses sharing one transport stand
+ * in for several instances.
+ */
+public class InMemoryInvalidationTransport implements InvalidationTransport {
+
+    private final List<Receiver> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void start(Receiver receiver) {
+        receivers.add(receiver);
+    }
+
+    @Override
+    public void publish(InvalidationBatch batch) {
+        for (Receiver receiver : receivers) {
+            receiver.receive(batch);
+        }
+    }
+
+    @Override
+    public void stop() {
+        receivers.clear();
+    }
+}
@@ -0,0 +1,35 @@
+package com.blog.blogapi.invalidation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Events published together by one instance, with their text encoding
+ * "origin;P12@v;C3@v": short enough that a few hundred events fit one NOTIFY payload.
+ */
+public record InvalidationBatch(String origin, List<InvalidationEvent> events) {
+
+    public String encode() {
+        StringBuilder payload = new StringBuilder(origin.length() + events.size() * 24).append(origin);
+        for (InvalidationEvent event : events) {
+            payload.append(';').append(event.type().code()).append(event.id()).append('@').append(event.version());
+        }
+        return payload.toString();
+    }
+
+    public static InvalidationBatch decode(String payload) {
+        String[] parts = payload.split(";");
+        List<InvalidationEvent> events = new ArrayList<>(parts.length - 1);
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i];
+            int at = part.indexOf('@');
+            if (part.length() < 2 || at < 2) {
+                throw new IllegalArgumentException("Malformed invalidation event '" + part + "'");
+            }
+            events.add(new InvalidationEvent(EntityType.fromCode(part.charAt(0)),
+                    Long.parseLong(part, 1, at, 10),
+                    Long.parseLong(part, at + 1, part.length(), 10)));
+        }
+        return new InvalidationBatch(parts[0], events);
+    }
+}
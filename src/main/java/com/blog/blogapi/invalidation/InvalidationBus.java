@@ -0,0 +1,236 @@
+package com.blog.blogapi.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tells every instance's in-process caches about committed writes
+ * A write calls publishAfterCommit: once the transaction commits, local listeners are told
+ * right away and the event joins a pending set that is sent to the other instances as one
+ * batch per flush interval (several writes of one entity in that window send one event).
+ *
+ * Events are stamped with a hybrid logical clock (wall-clock milliseconds plus a counter,
+ * advanced past every stamp received), which also orders cache fills: a cache takes
+ * stamp() before loading and installs the result only if isCurrent(), i.e. no invalidation
+ * of that entity arrived since. A fill racing a write, or an event delivered late or out of
+ * order, therefore drops an entry at worst, it never brings a stale one back.
+ */
+@Component
+public class InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    // Low bits of a stamp count events within the same millisecond
+    private static final int LOGICAL_BITS = 12;
+
+    private final InvalidationTransport transport;
+    private final InvalidationProperties properties;
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<EntityType, List<InvalidationListener>> listeners = new EnumMap<>(EntityType.class);
+
+    // Written locally, not yet sent; the highest stamp per entity
+    private final Map<Key, Long> pending = new ConcurrentHashMap<>();
+    // Local stamp of the last invalidation applied per entity, pruned after blog.invalidation.retention-ms
+    private final Map<Key, Long> marks = new ConcurrentHashMap<>();
+    // Stamp of the last reset: fills started before it are not current
+    private volatile long resetMark;
+    private volatile long lastPruneMillis = System.currentTimeMillis();
+
+    private final Counter published;
+    private final Counter received;
+
+    public InvalidationBus(InvalidationTransport transport, InvalidationProperties properties, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.properties = properties;
+        for (EntityType type : EntityType.values()) {
+            listeners.put(type, new CopyOnWriteArrayList<>());
+        }
+
+        this.published = Counter.builder("blog.invalidation.published")
+                .description("Invalidation events sent to the other instances")
+                .register(meterRegistry);
+        this.received = Counter.builder("blog.invalidation.received")
+                .description("Invalidation events received from the other instances")
+                .register(meterRegistry);
+        meterRegistry.gauge("blog.invalidation.pending", pending, Map::size);
+    }
+
+    @PostConstruct
+    void start() {
+        transport.start(new InvalidationTransport.Receiver() {
+            @Override
+            public void receive(InvalidationBatch batch) {
+                InvalidationBus.this.receive(batch);
+            }
+
+            @Override
+            public void reset() {
+                InvalidationBus.this.reset();
+            }
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Sending the last invalidations on shutdown failed", e);
+        }
+        transport.stop();
+    }
+
+    public void subscribe(EntityType type, InvalidationListener listener) {
+        listeners.get(type).add(listener);
+    }
+
+    /**
+     * Announce that an entity changed, once the current transaction commits (right away without one)
+     */
+    public void publishAfterCommit(EntityType type, long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(type, id);
+                }
+            });
+        } else {
+            publish(type, id);
+        }
+    }
+
+    /**
+     * Current stamp, to take before loading something a cache will keep
+     */
+    public long stamp() {
+        return tick();
+    }
+
+    /**
+     * Whether a value loaded after stamp() returned the given stamp may be cached: false when
+     * the entity was invalidated since (or the stamp is too old to tell). An invalidation can
+     * land between this check and the cache write, so check again after writing.
+     */
+    public boolean isCurrent(EntityType type, long id, long stamp) {
+        if (stamp < resetMark || (stamp >>> LOGICAL_BITS) < System.currentTimeMillis() - properties.getRetentionMs()) {
+            return false;
+        }
+        Long mark = marks.get(new Key(type, id));
+        return mark == null || mark < stamp;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.invalidation.flush-interval-ms:100}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Sending invalidations failed, retrying with the next flush", e);
+        }
+    }
+
+    /**
+     * Send every pending event as one batch; returns the number of events sent
+     */
+    public synchronized int flush() {
+        pruneMarks();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<InvalidationEvent> events = new ArrayList<>(pending.size());
+        for (Key key : pending.keySet()) {
+            Long version = pending.remove(key);
+            if (version != null) {
+                events.add(new InvalidationEvent(key.type(), key.id(), version));
+            }
+        }
+        try {
+            transport.publish(new InvalidationBatch(origin, events));
+        } catch (RuntimeException e) {
+            events.forEach(event -> pending.merge(new Key(event.type(), event.id()), event.version(), Math::max));
+            throw e;
+        }
+        published.increment(events.size());
+        return events.size();
+    }
+
+    private void publish(EntityType type, long id) {
+        Key key = new Key(type, id);
+        long version = tick();
+        apply(key);
+        pending.merge(key, version, Math::max);
+    }
+
+    private void receive(InvalidationBatch batch) {
+        if (origin.equals(batch.origin())) {
+            // Our own batch coming back, applied when it was committed
+            return;
+        }
+        for (InvalidationEvent event : batch.events()) {
+            clock.accumulateAndGet(event.version(), Math::max);
+            apply(new Key(event.type(), event.id()));
+        }
+        received.increment(batch.events().size());
+    }
+
+    private void reset() {
+        resetMark = tick();
+        for (EntityType type : EntityType.values()) {
+            for (InvalidationListener listener : listeners.get(type)) {
+                try {
+                    listener.invalidatedAll();
+                } catch (RuntimeException e) {
+                    log.warn("Invalidation listener failed to reset {}", type, e);
+                }
+            }
+        }
+    }
+
+    // Mark first, then notify: a fill that starts after the listener dropped the entry has a later stamp
+    private void apply(Key key) {
+        marks.merge(key, tick(), Math::max);
+        for (InvalidationListener listener : listeners.get(key.type())) {
+            try {
+                listener.invalidated(key.id());
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener failed for {} {}", key.type(), key.id(), e);
+            }
+        }
+    }
+
+    private long tick() {
+        long now = System.currentTimeMillis() << LOGICAL_BITS;
+        return clock.updateAndGet(last -> Math.max(last + 1, now));
+    }
+
+    private void pruneMarks() {
+        long now = System.currentTimeMillis();
+        if (now - lastPruneMillis < properties.getRetentionMs() / 2) {
+            return;
+        }
+        lastPruneMillis = now;
+        long oldest = (now - properties.getRetentionMs()) << LOGICAL_BITS;
+        marks.values().removeIf(mark -> mark < oldest);
+    }
+
+    private record Key(EntityType type, long id) {}
+}
@@ -0,0 +1,26 @@
+package com.blog.blogapi.invalidation;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Picks the invalidation transport from blog.invalidation.transport at startup
+ * (a runtime choice rather than a bean condition, so the AOT startup mode honours it too)
+ */
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(InvalidationProperties properties, DataSource dataSource,
+                                                       DataSourceProperties dataSourceProperties) {
+        return switch (properties.getTransport()) {
+            case "postgres" -> new PostgresInvalidationTransport(dataSource, dataSourceProperties, properties);
+            case "in-memory" -> new InMemoryInvalidationTransport();
+            default -> throw new IllegalArgumentException(
+                    "blog.invalidation.transport must be postgres or in-memory, not " + properties.getTransport());
+        };
+    }
+}
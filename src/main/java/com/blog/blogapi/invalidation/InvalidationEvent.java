@@ -0,0 +1,7 @@
+package com.blog.blogapi.invalidation;
+
+/**
+ * "This entity changed": the type and id of what was written, stamped with the
+ * publishing instance's clock (see InvalidationBus) when the write committed
+ */
+public record InvalidationEvent(EntityType type, long id, long version) {}
@@ -0,0 +1,34 @@
+package com.blog.blogapi.invalidation;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Cache-side callback of the invalidation bus, called on the committing thread for local
+ * writes and on the transport's thread for writes on other instances; keep it cheap
+ */
+public interface InvalidationListener {
+
+    /**
+     * The entity with this id changed, drop whatever is cached for it
+     */
+    void invalidated(long id);
+
+    /**
+     * Events may have been missed (e.g. the transport reconnected), drop everything
+     */
+    void invalidatedAll();
+
+    static InvalidationListener of(LongConsumer invalidated, Runnable invalidatedAll) {
+        return new InvalidationListener() {
+            @Override
+            public void invalidated(long id) {
+                invalidated.accept(id);
+            }
+
+            @Override
+            public void invalidatedAll() {
+                invalidatedAll.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.blog.blogapi.invalidation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for cross-instance cache invalidation (prefix {@code blog.invalidation})
+ * Writes are announced after commit, batched per flush interval, over the configured transport.
+ */
+@ConfigurationProperties(prefix = "blog.invalidation")
+public class InvalidationProperties {
+
+    // postgres (LISTEN/NOTIFY, every instance sharing the database) or in-memory (this instance only)
+    private String transport = "postgres";
+
+    // NOTIFY channel, a plain SQL identifier
+    private String channel = "blog_invalidation";
+
+    // Delay between two batches sent to the other instances
+    private long flushIntervalMs = 100;
+
+    // Longest time the listener blocks waiting for notifications before checking for shutdown
+    private long listenTimeoutMs = 1_000;
+
+    // Wait before reconnecting after the listening connection failed
+    private long reconnectDelayMs = 5_000;
+
+    // How long an invalidation is remembered to reject cache fills that started before it
+    private long retentionMs = 600_000;
+
+    public String getTransport() { return transport; }
+    public void setTransport(String transport) { this.transport = transport; }
+
+    public String getChannel() { return channel; }
+    public void setChannel(String channel) { this.channel = channel; }
+
+    public long getFlushIntervalMs() { return flushIntervalMs; }
+    public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+
+    public long getListenTimeoutMs() { return listenTimeoutMs; }
+    public void setListenTimeoutMs(long listenTimeoutMs) { this.listenTimeoutMs = listenTimeoutMs; }
+
+    public long getReconnectDelayMs() { return reconnectDelayMs; }
+    public void setReconnectDelayMs(long reconnectDelayMs) { this.reconnectDelayMs = reconnectDelayMs; }
+
+    public long getRetentionMs() { return retentionMs; }
+    public void setRetentionMs(long retentionMs) { this.retentionMs = retentionMs; }
+}
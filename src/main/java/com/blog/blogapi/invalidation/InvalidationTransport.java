@@ -0,0 +1,28 @@
+package com.blog.blogapi.invalidation;
+
+/**
+ * Carries invalidation batches between instances
+ * Delivery is at most once and may reorder batches from different instances; a transport
+ * that may have lost batches (reconnect) says so through Receiver.reset. Every batch is
+ * also delivered back to its own instance, which ignores it.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Start delivering batches published by any instance to the receiver
+     */
+    void start(Receiver receiver);
+
+    /**
+     * Send a batch to every instance, throws when it could not be sent
+     */
+    void publish(InvalidationBatch batch);
+
+    void stop();
+
+    interface Receiver {
+        void receive(InvalidationBatch batch);
+
+        void reset();
+    }
+}
@@ -0,0 +1,150 @@
+package com.blog.blogapi.invalidation;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY transport: every instance connected to the database hears every batch
+ * A daemon thread holds one connection for LISTEN, opened outside the pool: it takes no pool
+ * slot, and no request is ever handed a session still subscribed to the channel, whose
+ * notifications would pile up in its driver unread. NOTIFY payloads are limited
+ * to 8000 bytes, so large batches are split. Notifications sent while this instance was not
+ * listening are lost, so every (re)connect resets the receiver.
+ */
+public class PostgresInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationTransport.class);
+
+    // Below the 8000 byte NOTIFY limit; the payload is ASCII
+    static final int MAX_PAYLOAD_BYTES = 7_500;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final InvalidationProperties properties;
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresInvalidationTransport(DataSource dataSource, DataSourceProperties dataSourceProperties,
+                                         InvalidationProperties properties) {
+        if (!properties.getChannel().matches("[a-z_][a-z0-9_]*"))
+            throw new IllegalArgumentException("blog.invalidation.channel must be a lower-case SQL identifier");
+
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start(Receiver receiver) {
+        running = true;
+        listener = new Thread(() -> listen(receiver), "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void publish(InvalidationBatch batch) {
+        for (String payload : split(batch)) {
+            // Runs outside any transaction, so the notification goes out right away
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, properties.getChannel(), payload);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            try {
+                listener.join(properties.getListenTimeoutMs() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            listener = null;
+        }
+    }
+
+    static List<String> split(InvalidationBatch batch) {
+        List<String> payloads = new ArrayList<>();
+        List<InvalidationEvent> chunk = new ArrayList<>();
+        int length = batch.origin().length();
+        for (InvalidationEvent event : batch.events()) {
+            // Code, id, '@', version and separator stay under 42 characters
+            if (length + 42 > MAX_PAYLOAD_BYTES && !chunk.isEmpty()) {
+                payloads.add(new InvalidationBatch(batch.origin(), chunk).encode());
+                chunk = new ArrayList<>();
+                length = batch.origin().length();
+            }
+            chunk.add(event);
+            length += 42;
+        }
+        if (!chunk.isEmpty()) {
+            payloads.add(new InvalidationBatch(batch.origin(), chunk).encode());
+        }
+        return payloads;
+    }
+
+    private void listen(Receiver receiver) {
+        while (running) {
+            // Closing it ends the session, and the LISTEN with it
+            try (Connection connection = openListenerConnection()) {
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                log.info("Listening for cache invalidations on channel {}", properties.getChannel());
+                // Whatever was sent before this point never reached us
+                receiver.reset();
+
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications((int) properties.getListenTimeoutMs());
+                    if (received == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : received) {
+                        deliver(receiver, notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener lost its connection, reconnecting in {} ms", properties.getReconnectDelayMs(), e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(properties.getReconnectDelayMs());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private Connection openListenerConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private static void deliver(Receiver receiver, String payload) {
+        InvalidationBatch batch;
+        try {
+            batch = InvalidationBatch.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed invalidation payload '{}'", payload, e);
+            return;
+        }
+        receiver.receive(batch);
+    }
+}
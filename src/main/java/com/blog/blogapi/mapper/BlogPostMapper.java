@@ -1,6 +1,7 @@
 package com.blog.blogapi.mapper;
 
 import com.blog.blogapi.DTO.BlogPostDTO;
+import com.blog.blogapi.DTO.PostSummaryDTO;
 import com.blog.blogapi.DTO.UpdateBlogPostDTO;
 import com.blog.blogapi.exception.ResourceNotFoundException;
 import com.blog.blogapi.model.Author;
@@ -11,6 +12,7 @@ import com.blog.blogapi.service.AuthorService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,6 +28,7 @@ public class BlogPostMapper {
     public BlogPost dtoToEntity(BlogPostDTO dto) {
         BlogPost entity = new BlogPost();
         entity.setTitle(dto.getTitle());
+        entity.setContent(dto.getContent());
         entity.setDate(dto.getDate());
 
         Author author = authorService.getAuthorById(dto.getAuthorId());
@@ -35,7 +38,7 @@ public class BlogPostMapper {
                 .map(id -> categoryRepository.findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + id)))
                         .collect(Collectors.toList());
-        entity.setCategories(categories);
+        entity.setCategories(new LinkedHashSet<>(categories));
 
         return entity;
     }
@@ -65,6 +68,13 @@ public class BlogPostMapper {
         return dto;
     }
 
+    public PostSummaryDTO toSummary(BlogPost post) {
+        Author author = post.getAuthor();
+        return new PostSummaryDTO(post.getId(), post.getTitle(), post.getExcerpt(),
+                author != null ? author.getId() : null, author != null ? author.getName() : null,
+                post.getDate(), post.getWordCount(), post.getReadingTimeMinutes());
+    }
+
     public void updateEntityFromDTO(UpdateBlogPostDTO dto, BlogPost post){
         post.setTitle(dto.getTitle());
         post.setContent(dto.getContent());
@@ -78,7 +88,7 @@ public class BlogPostMapper {
                 .map(id -> categoryRepository.findById(id)
                         .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + id)))
                 .collect(Collectors.toList());
-            post.setCategories(categories);
+            post.replaceCategories(categories);
         }
     }
 }
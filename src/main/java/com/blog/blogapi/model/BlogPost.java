@@ -2,16 +2,34 @@ package com.blog.blogapi.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
+@Table(indexes = {
+        // Both are partial on PostgreSQL (WHERE deleted_at IS NULL, see V6), so deleted rows never enter them
+        // Author feed: equality on author, then newest first with id as tie-breaker
+        @Index(name = "idx_blogpost_live_author_date_id", columnList = "author_id, date, id"),
+        // Category feed walks posts newest first and probes the join table index
+        @Index(name = "idx_blogpost_live_date_id", columnList = "date, id"),
+        // Foreign key lookups see deleted posts as well
+        @Index(name = "idx_blogpost_author_fk", columnList = "author_id")
+})
+// Soft-deleted posts are invisible to every entity load, query and collection; only native SQL must filter them itself
+@SQLRestriction("deleted_at IS NULL")
 public class BlogPost {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,8 +37,32 @@ public class BlogPost {
 
     @NotBlank(message = "Title is required")
     private String title;
+
+    // Stored compressed in blogpost_content, loaded on demand by PostContentService
+    // Lists never load it, so it is left out of their JSON rather than sent as null ("no body")
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String content;
 
+    // Derived from content when the post is written, so lists never need the body
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "excerpt", length = 300)
+    private String excerpt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "reading_time_minutes")
+    private Integer readingTimeMinutes;
+
+    // Maintained by PostViewCounter with batched increments, never written through the entity
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long viewCount;
+
     @Valid
     @ManyToOne
     @JoinColumn(name = "author_id")
@@ -31,26 +73,34 @@ public class BlogPost {
     @NotNull(message = "Date is required")
     private LocalDate date;
 
+    // Set by BlogService.deletePost; PostPurgeJob removes the row for good after blog.purge.retention-hours
+    @JsonIgnore
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // A set, not a bag: Hibernate keys join rows by (post, category) and writes only the rows that changed
     @Valid
     @ManyToMany
+    @OrderBy("name ASC")
     @JoinTable(
             name = "blogpost_category",
             joinColumns = @JoinColumn(name = "blogpost_id"),
-            inverseJoinColumns = @JoinColumn(name = "category_id")
+            inverseJoinColumns = @JoinColumn(name = "category_id"),
+            indexes = @Index(name = "idx_blogpost_category_category_post", columnList = "category_id, blogpost_id")
     )
     @JsonIgnore
     @NotEmpty(message = "At least one category is required")
-    private List<Category> categories;
+    private Set<Category> categories = new LinkedHashSet<>();
 
     public BlogPost(){}
 
-    public BlogPost(Long id, String title, String content, LocalDate date, Author author, List<Category> categories){
+    public BlogPost(Long id, String title, String content, LocalDate date, Author author, Collection<Category> categories){
         this.id = id;
         this.title = title;
         this.content = content;
         this.date = date;
         this.author = author;
-        this.categories = categories;
+        this.categories = categories != null ? new LinkedHashSet<>(categories) : null;
     }
 
     public Long getId(){ return id; }
@@ -62,13 +112,41 @@ public class BlogPost {
     public String getContent(){ return content; }
     public void setContent(String content){ this.content = content; }
 
+    public String getExcerpt(){ return excerpt; }
+    public void setExcerpt(String excerpt){ this.excerpt = excerpt; }
+
+    public Integer getWordCount(){ return wordCount; }
+    public void setWordCount(Integer wordCount){ this.wordCount = wordCount; }
+
+    public Integer getReadingTimeMinutes(){ return readingTimeMinutes; }
+    public void setReadingTimeMinutes(Integer readingTimeMinutes){ this.readingTimeMinutes = readingTimeMinutes; }
+
+    public long getViewCount(){ return viewCount; }
+    public void setViewCount(long viewCount){ this.viewCount = viewCount; }
+
     public LocalDate getDate(){ return date; }
     public void setDate(LocalDate date){ this.date = date; }
 
+    public LocalDateTime getDeletedAt(){ return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt){ this.deletedAt = deletedAt; }
+
     public Author getAuthor(){ return author; }
     public void setAuthor(Author author){ this.author = author; }
 
-    public List<Category> getCategories(){ return categories; }
-    public void setCategories(List<Category> categories){ this.categories = categories; }
+    public Set<Category> getCategories(){ return categories; }
+    public void setCategories(Set<Category> categories){ this.categories = categories; }
+
+    /**
+     * Make the categories exactly the given ones by changing the existing collection in place,
+     * so only the added and removed join rows are written (a new collection rewrites them all)
+     */
+    public void replaceCategories(Collection<Category> replacement){
+        if (categories == null) {
+            categories = new LinkedHashSet<>(replacement);
+            return;
+        }
+        categories.retainAll(replacement);
+        categories.addAll(replacement);
+    }
 
 }
\ No newline at end of file
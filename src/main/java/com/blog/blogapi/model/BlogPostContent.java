@@ -0,0 +1,65 @@
+package com.blog.blogapi.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Compressed body of a blog post, stored apart from the blogpost row so that
+ * listing and searching posts never reads it. Decoded by PostContentService.
+ */
+@Entity
+@Table(name = "blogpost_content")
+public class BlogPostContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BlogPost post;
+
+    // "deflate" or "none" (stored as UTF-8 when compression does not pay off)
+    @Column(nullable = false, length = 16)
+    private String codec;
+
+    // Preset dictionary used for compression, null when none was available
+    @Column(name = "dictionary_id")
+    private Long dictionaryId;
+
+    // SHA-256 of the source text, also the key of its rendered HTML
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Column(name = "data", nullable = false, length = 10_485_760)
+    private byte[] data;
+
+    public BlogPostContent(){}
+
+    public Long getPostId(){ return postId; }
+    public void setPostId(Long postId){ this.postId = postId; }
+
+    public BlogPost getPost(){ return post; }
+    public void setPost(BlogPost post){ this.post = post; }
+
+    public String getCodec(){ return codec; }
+    public void setCodec(String codec){ this.codec = codec; }
+
+    public Long getDictionaryId(){ return dictionaryId; }
+    public void setDictionaryId(Long dictionaryId){ this.dictionaryId = dictionaryId; }
+
+    public String getContentHash(){ return contentHash; }
+    public void setContentHash(String contentHash){ this.contentHash = contentHash; }
+
+    public int getOriginalLength(){ return originalLength; }
+    public void setOriginalLength(int originalLength){ this.originalLength = originalLength; }
+
+    public byte[] getData(){ return data; }
+    public void setData(byte[] data){ this.data = data; }
+}
@@ -6,7 +6,6 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.util.List;
-import java.util.Objects;
 
 @Entity
 public class Category {
@@ -57,9 +56,11 @@ public class Category {
         return id != null && id.equals(category.getId());
     }
 
+    // Constant so a category keeps its bucket when it gets an id on persist; id-based equality
+    // alone decides membership (and matches Hibernate proxies, which subclass Category)
     @Override
     public int hashCode(){
-        return Objects.hashCode(id);
+        return Category.class.hashCode();
     }
 }
 
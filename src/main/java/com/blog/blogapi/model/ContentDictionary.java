@@ -0,0 +1,45 @@
+package com.blog.blogapi.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deflate preset dictionary trained on existing post bodies.
+ * Rows are never updated or deleted: compressed content references the dictionary it was written with.
+ */
+@Entity
+@Table(name = "content_dictionary")
+public class ContentDictionary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "data", nullable = false, length = 32_768)
+    private byte[] data;
+
+    // Number of posts the dictionary was trained on
+    @Column(name = "sample_size", nullable = false)
+    private int sampleSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ContentDictionary(){}
+
+    public ContentDictionary(byte[] data, int sampleSize){
+        this.data = data;
+        this.sampleSize = sampleSize;
+    }
+
+    public Long getId(){ return id; }
+
+    public byte[] getData(){ return data; }
+
+    public int getSampleSize(){ return sampleSize; }
+
+    public LocalDateTime getCreatedAt(){ return createdAt; }
+}
@@ -0,0 +1,39 @@
+package com.blog.blogapi.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sanitized HTML rendered from a post's Markdown, keyed by the SHA-256 of the source.
+ * Posts with identical bodies share a row; a changed body simply maps to a new hash.
+ */
+@Entity
+@Table(name = "rendered_html")
+public class RenderedHtml {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "html", nullable = false, length = 10_485_760)
+    private String html;
+
+    @CreationTimestamp
+    @Column(name = "rendered_at", nullable = false, updatable = false)
+    private LocalDateTime renderedAt;
+
+    public RenderedHtml(){}
+
+    public RenderedHtml(String contentHash, String html){
+        this.contentHash = contentHash;
+        this.html = html;
+    }
+
+    public String getContentHash(){ return contentHash; }
+
+    public String getHtml(){ return html; }
+
+    public LocalDateTime getRenderedAt(){ return renderedAt; }
+}
@@ -0,0 +1,144 @@
+package com.blog.blogapi.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Attaches execution plans to a sample of slow statements
+ * Plans are captured on a single background thread against the raw (unproxied)
+ * DataSource, so they never show up in the slow-query log themselves and never
+ * block the request that triggered them. When the queue is full, samples are dropped.
+ */
+public class ExplainPlanSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(ExplainPlanSampler.class);
+
+    private static final int MAX_TRACKED_STATEMENTS = 1024;
+
+    // Locking clauses and data-modifying CTEs look like SELECTs but write or lock rows
+    private static final Pattern WRITE_KEYWORDS =
+            Pattern.compile("\\b(insert|update|delete|merge|truncate|for\\s+share|for\\s+key\\s+share)\\b");
+
+    private final DataSource dataSource;
+    private final SlowQueryProperties properties;
+    private final Map<String, Long> lastExplained = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    private volatile String explainPrefix;
+
+    public ExplainPlanSampler(DataSource dataSource, SlowQueryProperties properties) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * Queues an EXPLAIN for the record if it is a read-only statement and is picked by the sampler
+     */
+    public void maybeExplain(SlowQueryRecord record) {
+        if (!properties.isExplainEnabled() || !isReadOnly(record.getSql())) {
+            return;
+        }
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getExplainSampleRate()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long previous = lastExplained.get(record.getSql());
+        if (previous != null && now - previous < properties.getExplainIntervalMs()) {
+            return;
+        }
+        if (lastExplained.size() >= MAX_TRACKED_STATEMENTS) {
+            lastExplained.clear();
+        }
+        lastExplained.put(record.getSql(), now);
+
+        executor.execute(() -> explain(record));
+    }
+
+    private void explain(SlowQueryRecord record) {
+        try (Connection connection = dataSource.getConnection()) {
+            // EXPLAIN ANALYZE really runs the statement, so run it in a read-only transaction that is
+            // always rolled back. Drivers only enforce read-only inside a transaction (pgjdbc's default
+            // readOnlyMode=transaction ignores it under autocommit), hence autocommit goes off first.
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(explainPrefix(connection) + record.getSql())) {
+                bindParameters(statement, record.getParameters());
+
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        if (!plan.isEmpty()) {
+                            plan.append('\n');
+                        }
+                        plan.append(resultSet.getString(1));
+                    }
+                }
+                record.setPlan(plan.toString());
+            } finally {
+                connection.rollback();
+                connection.setReadOnly(false);
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException ex) {
+            log.debug("Could not capture execution plan for [{}]: {}", record.getSql(), ex.getMessage());
+        }
+    }
+
+    private String explainPrefix(Connection connection) throws SQLException {
+        String prefix = explainPrefix;
+        if (prefix == null) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            prefix = "PostgreSQL".equalsIgnoreCase(product) ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ";
+            explainPrefix = prefix;
+        }
+        return prefix;
+    }
+
+    private static void bindParameters(PreparedStatement statement, List<Object> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            Object value = parameters.get(i);
+            if (value == null) {
+                statement.setNull(i + 1, Types.NULL);
+            } else {
+                statement.setObject(i + 1, value);
+            }
+        }
+    }
+
+    /**
+     * Plain SELECTs only; the read-only transaction still guards against side-effecting functions
+     */
+    static boolean isReadOnly(String sql) {
+        String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (!normalized.startsWith("select") && !normalized.startsWith("with")) {
+            return false;
+        }
+        return !WRITE_KEYWORDS.matcher(normalized).find();
+    }
+}
@@ -0,0 +1,54 @@
+package com.blog.blogapi.monitoring;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires the slow-query log into the application DataSource
+ * Replaces "show-sql" style logging of every statement with a bounded
+ * in-memory log of the slow ones, exposed at /actuator/slowqueries.
+ */
+@Configuration
+public class SlowQueryConfig {
+
+    @Bean
+    public SlowQueryRingBuffer slowQueryRingBuffer(SlowQueryProperties properties) {
+        return new SlowQueryRingBuffer(properties.getBufferSize());
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SlowQueryRingBuffer buffer, SlowQueryProperties properties) {
+        return new SlowQueryEndpoint(buffer, properties);
+    }
+
+    // Static so the post processor does not force early initialization of this configuration
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryProperties> properties,
+                                                                     ObjectProvider<SlowQueryRingBuffer> buffer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                SlowQueryProperties props = properties.getObject();
+                if (!props.isEnabled()) {
+                    return bean;
+                }
+
+                ExplainPlanSampler sampler = new ExplainPlanSampler(dataSource, props);
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new SlowQueryListener(props, buffer.getObject(), sampler))
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.blog.blogapi.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only actuator endpoint exposing the slow-query ring buffer (GET /actuator/slowqueries)
+ * It is served on the API port without authentication, so bind values are masked (see
+ * SlowQueryRecord) and there is no operation that changes the buffer.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryRingBuffer buffer;
+    private final SlowQueryProperties properties;
+
+    public SlowQueryEndpoint(SlowQueryRingBuffer buffer, SlowQueryProperties properties) {
+        this.buffer = buffer;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries() {
+        List<SlowQueryRecord> records = buffer.snapshot();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("thresholdMs", properties.getThresholdMs());
+        response.put("capacity", buffer.capacity());
+        response.put("totalRecorded", buffer.totalRecorded());
+        response.put("queries", records);
+        return response;
+    }
+}
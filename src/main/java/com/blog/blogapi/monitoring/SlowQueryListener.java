@@ -0,0 +1,95 @@
+package com.blog.blogapi.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * datasource-proxy listener that records statements slower than the configured threshold
+ * Fast statements cost one comparison; everything else (parameter capture, caller
+ * lookup, plan sampling) only happens for the slow ones.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String APP_PACKAGE = "com.blog.blogapi.";
+    private static final String OWN_PACKAGE = SlowQueryListener.class.getPackageName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final SlowQueryProperties properties;
+    private final SlowQueryRingBuffer buffer;
+    private final ExplainPlanSampler sampler;
+
+    public SlowQueryListener(SlowQueryProperties properties, SlowQueryRingBuffer buffer, ExplainPlanSampler sampler) {
+        this.properties = properties;
+        this.buffer = buffer;
+        this.sampler = sampler;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Nothing to do, the proxy measures elapsed time for us
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!properties.isEnabled() || execInfo.getElapsedTime() < properties.getThresholdMs()) {
+            return;
+        }
+
+        String caller = findCaller();
+        for (QueryInfo queryInfo : queryInfoList) {
+            SlowQueryRecord record = new SlowQueryRecord(
+                    Instant.now(),
+                    queryInfo.getQuery(),
+                    firstParameterSet(queryInfo),
+                    execInfo.getElapsedTime(),
+                    caller,
+                    execInfo.isSuccess()
+            );
+            buffer.add(record);
+            sampler.maybeExplain(record);
+        }
+    }
+
+    /**
+     * Bind values of the first parameter set, ordered by index (batches only keep the first row)
+     */
+    private static List<Object> firstParameterSet(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<ParameterSetOperation> operations = new ArrayList<>(queryInfo.getParametersList().get(0));
+        operations.removeIf(operation -> !(operation.getArgs()[0] instanceof Integer));
+        operations.sort(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]));
+
+        List<Object> values = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            values.add(ParameterSetOperation.isSetNullParameterOperation(operation) ? null : operation.getArgs()[1]);
+        }
+        return values;
+    }
+
+    /**
+     * First application frame outside this package, e.g. "BlogService.getPostById:52"
+     */
+    private static String findCaller() {
+        Optional<StackWalker.StackFrame> frame = STACK_WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE) && !f.getClassName().startsWith(OWN_PACKAGE))
+                .filter(f -> !f.getClassName().contains("$$"))
+                .findFirst());
+
+        return frame
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,46 @@
+package com.blog.blogapi.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the slow-query log (prefix {@code blog.slow-query})
+ * Statements slower than the threshold are kept in a bounded ring buffer and
+ * a sample of them gets an execution plan attached.
+ */
+@ConfigurationProperties(prefix = "blog.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    // Statements at or above this duration are recorded
+    private long thresholdMs = 200;
+
+    // Number of slow statements kept in memory (oldest are overwritten)
+    private int bufferSize = 256;
+
+    private boolean explainEnabled = true;
+
+    // Fraction of slow SELECT statements that get an EXPLAIN (0.0 - 1.0)
+    private double explainSampleRate = 0.1;
+
+    // The same SQL is explained at most once per interval
+    private long explainIntervalMs = 60_000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getThresholdMs() { return thresholdMs; }
+    public void setThresholdMs(long thresholdMs) { this.thresholdMs = thresholdMs; }
+
+    public int getBufferSize() { return bufferSize; }
+    public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+
+    public boolean isExplainEnabled() { return explainEnabled; }
+    public void setExplainEnabled(boolean explainEnabled) { this.explainEnabled = explainEnabled; }
+
+    public double getExplainSampleRate() { return explainSampleRate; }
+    public void setExplainSampleRate(double explainSampleRate) { this.explainSampleRate = explainSampleRate; }
+
+    public long getExplainIntervalMs() { return explainIntervalMs; }
+    public void setExplainIntervalMs(long explainIntervalMs) { this.explainIntervalMs = explainIntervalMs; }
+}
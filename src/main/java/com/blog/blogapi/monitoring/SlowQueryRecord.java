@@ -0,0 +1,57 @@
+package com.blog.blogapi.monitoring;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One captured slow statement
+ * The plan is filled in later by {@link ExplainPlanSampler} when the statement was sampled.
+ * Bind values stay in memory for that EXPLAIN only; serialized, a record shows their types.
+ */
+public class SlowQueryRecord {
+
+    private final Instant timestamp;
+    private final String sql;
+    private final List<Object> parameters;
+    private final long durationMs;
+    private final String caller;
+    private final boolean success;
+    private volatile String plan;
+
+    public SlowQueryRecord(Instant timestamp, String sql, List<Object> parameters,
+                           long durationMs, String caller, boolean success) {
+        this.timestamp = timestamp;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.durationMs = durationMs;
+        this.caller = caller;
+        this.success = success;
+    }
+
+    public Instant getTimestamp() { return timestamp; }
+
+    public String getSql() { return sql; }
+
+    @JsonIgnore
+    public List<Object> getParameters() { return parameters; }
+
+    // Values may be personal data (emails, names), so only their types leave the process
+    @JsonProperty("parameters")
+    public List<String> getMaskedParameters() {
+        return parameters.stream()
+                .map(value -> value == null ? "null" : "<" + value.getClass().getSimpleName() + ">")
+                .toList();
+    }
+
+    public long getDurationMs() { return durationMs; }
+
+    public String getCaller() { return caller; }
+
+    public boolean isSuccess() { return success; }
+
+    public String getPlan() { return plan; }
+    public void setPlan(String plan) { this.plan = plan; }
+}
@@ -0,0 +1,58 @@
+package com.blog.blogapi.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free buffer of the most recent slow statements
+ * Writers claim a slot with a single increment and overwrite the oldest entry,
+ * so memory use stays constant no matter how many slow queries happen.
+ */
+public class SlowQueryRingBuffer {
+
+    private final AtomicReferenceArray<SlowQueryRecord> slots;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public SlowQueryRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(SlowQueryRecord record) {
+        long sequence = cursor.getAndIncrement();
+        slots.set((int) (sequence % slots.length()), record);
+    }
+
+    /**
+     * Returns the buffered records, newest first
+     */
+    public List<SlowQueryRecord> snapshot() {
+        long end = cursor.get();
+        int capacity = slots.length();
+        long start = Math.max(0, end - capacity);
+
+        List<SlowQueryRecord> records = new ArrayList<>((int) (end - start));
+        for (long sequence = end - 1; sequence >= start; sequence--) {
+            SlowQueryRecord record = slots.get((int) (sequence % capacity));
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Total number of slow statements seen since startup (including overwritten ones)
+     */
+    public long totalRecorded() {
+        return cursor.get();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,134 @@
+package com.blog.blogapi.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for many clients, one per client and endpoint class, without locks
+ *
+ * Each bucket is a single long updated with CAS (GCRA, the "virtual scheduling" form of
+ * a token bucket): the theoretical arrival time of the next request. A request is
+ * allowed when pushing that time one emission interval further keeps it within
+ * burst * interval of now. A bucket whose time lies in the past is full, which is also
+ * what a missing entry means, so idle clients can be dropped without changing any
+ * decision. The table is bounded: once it is full, one thread sweeps out idle clients
+ * and, if a flood of distinct active clients still overflows it, the ones nearest to a
+ * full bucket (they lose the least by starting over).
+ */
+final class ClientRateLimiter {
+
+    enum EndpointClass { READ, SEARCH, WRITE }
+
+    /**
+     * Outcome for one request; times in nanoseconds from now
+     */
+    record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {}
+
+    private static final EndpointClass[] CLASSES = EndpointClass.values();
+
+    private final long[] intervalNanos = new long[CLASSES.length];
+    private final long[] capacityNanos = new long[CLASSES.length];
+    private final int[] bursts = new int[CLASSES.length];
+    private final int maxClients;
+    private final LongSupplier nanoTime;
+    private final long origin;
+
+    private final Map<String, AtomicLongArray> clients = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    ClientRateLimiter(RateLimitProperties properties, LongSupplier nanoTime) {
+        configure(EndpointClass.READ, properties.getRead());
+        configure(EndpointClass.SEARCH, properties.getSearch());
+        configure(EndpointClass.WRITE, properties.getWrite());
+        this.maxClients = properties.getMaxClients();
+        this.nanoTime = nanoTime;
+        // Keeps "now" positive, so 0 (a new bucket) is always in the past
+        this.origin = nanoTime.getAsLong() - 1;
+    }
+
+    Decision acquire(String client, EndpointClass endpointClass) {
+        AtomicLongArray buckets = clients.get(client);
+        if (buckets == null) {
+            buckets = clients.computeIfAbsent(client, key -> new AtomicLongArray(CLASSES.length));
+            if (clients.size() > maxClients) {
+                evict();
+            }
+        }
+
+        int index = endpointClass.ordinal();
+        long interval = intervalNanos[index];
+        long capacity = capacityNanos[index];
+        int burst = bursts[index];
+        long now = nanoTime.getAsLong() - origin;
+
+        while (true) {
+            long arrival = buckets.get(index);
+            long next = Math.max(arrival, now) + interval;
+            long ahead = next - now;
+            if (ahead > capacity) {
+                long wait = ahead - capacity;
+                return new Decision(false, burst, 0, arrival - now, wait);
+            }
+            if (buckets.compareAndSet(index, arrival, next)) {
+                return new Decision(true, burst, (int) ((capacity - ahead) / interval), ahead, 0);
+            }
+        }
+    }
+
+    int trackedClients() {
+        return clients.size();
+    }
+
+    private void configure(EndpointClass endpointClass, RateLimitProperties.Limit limit) {
+        if (limit.getRequestsPerSecond() <= 0 || limit.getBurst() < 1)
+            throw new IllegalArgumentException("blog.rate-limit." + endpointClass.name().toLowerCase()
+                    + " needs a positive requests-per-second and a burst of at least 1");
+
+        int index = endpointClass.ordinal();
+        intervalNanos[index] = Math.max(1, Math.round(1_000_000_000L / limit.getRequestsPerSecond()));
+        capacityNanos[index] = intervalNanos[index] * limit.getBurst();
+        bursts[index] = limit.getBurst();
+    }
+
+    private void evict() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = nanoTime.getAsLong() - origin;
+            clients.values().removeIf(buckets -> idle(buckets, now));
+
+            // Still full: every tracked client is active. Drop the ones closest to a full bucket,
+            // so a flood of new clients cannot reset the buckets of the clients being throttled
+            int excess = clients.size() - maxClients * 9 / 10;
+            if (excess > 0) {
+                List<Map.Entry<String, Long>> debts = new ArrayList<>(clients.size());
+                clients.forEach((client, buckets) -> debts.add(Map.entry(client, latest(buckets))));
+                debts.sort(Map.Entry.comparingByValue());
+                for (int i = 0; i < excess && i < debts.size(); i++) {
+                    clients.remove(debts.get(i).getKey());
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static boolean idle(AtomicLongArray buckets, long now) {
+        return latest(buckets) <= now;
+    }
+
+    // Time at which all of a client's buckets are full again
+    private static long latest(AtomicLongArray buckets) {
+        long latest = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            latest = Math.max(latest, buckets.get(i));
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,31 @@
+package com.blog.blogapi.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Puts the rate limiter in front of /api/**
+ * The filter is always registered and switched on or off from blog.rate-limit.enabled
+ * at startup, so the AOT-processed startup mode honours the property too.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        ClientRateLimiter limiter = new ClientRateLimiter(properties, System::nanoTime);
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(limiter, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Rejected requests should cost as little as possible: run before the other filters
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+}
@@ -0,0 +1,90 @@
+package com.blog.blogapi.ratelimit;
+
+import com.blog.blogapi.exception.CustomErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Applies the per-client token buckets before a request reaches a controller
+ * Every response carries RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset
+ * (IETF httpapi rate limit header fields); rejected requests get 429 with Retry-After.
+ * Clients are identified by remote address, so deployments behind a proxy need
+ * server.forward-headers-strategy set for the real client address to show up here.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ClientRateLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final Counter[] rejected;
+
+    RateLimitFilter(ClientRateLimiter limiter, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+
+        ClientRateLimiter.EndpointClass[] classes = ClientRateLimiter.EndpointClass.values();
+        this.rejected = new Counter[classes.length];
+        for (ClientRateLimiter.EndpointClass endpointClass : classes) {
+            rejected[endpointClass.ordinal()] = Counter.builder("blog.ratelimit.rejected")
+                    .tag("class", endpointClass.name().toLowerCase())
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .register(meterRegistry);
+        }
+        meterRegistry.gauge("blog.ratelimit.clients", limiter, ClientRateLimiter::trackedClients);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ClientRateLimiter.EndpointClass endpointClass = classify(request);
+        ClientRateLimiter.Decision decision = limiter.acquire(request.getRemoteAddr(), endpointClass);
+
+        response.setHeader("RateLimit-Limit", Integer.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Integer.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(seconds(decision.resetNanos())));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejected[endpointClass.ordinal()].increment();
+        response.setHeader("Retry-After", Long.toString(seconds(decision.retryAfterNanos())));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new CustomErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Rate limit exceeded, retry after the number of seconds in the Retry-After header",
+                null,
+                request.getRequestURI()));
+    }
+
+    static ClientRateLimiter.EndpointClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        // CORS preflights are free-riding reads, not writes
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            return ClientRateLimiter.EndpointClass.WRITE;
+        }
+        return request.getRequestURI().endsWith("/search")
+                ? ClientRateLimiter.EndpointClass.SEARCH
+                : ClientRateLimiter.EndpointClass.READ;
+    }
+
+    // Header values are whole seconds, rounded up so a client waiting that long is allowed
+    private static long seconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+}
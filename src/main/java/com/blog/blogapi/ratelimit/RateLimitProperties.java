@@ -0,0 +1,63 @@
+package com.blog.blogapi.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for per-client rate limiting of /api/** (prefix {@code blog.rate-limit})
+ * Each client gets one token bucket per endpoint class: reads, searches and writes.
+ */
+@ConfigurationProperties(prefix = "blog.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Clients tracked at once; idle clients (full buckets) are evicted first when the table is full
+    private int maxClients = 100_000;
+
+    // GET requests not covered by search
+    private Limit read = new Limit(50, 100);
+
+    // GET .../search endpoints (LIKE scans)
+    private Limit search = new Limit(5, 20);
+
+    // POST, PUT, PATCH and DELETE
+    private Limit write = new Limit(2, 10);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxClients() { return maxClients; }
+    public void setMaxClients(int maxClients) { this.maxClients = maxClients; }
+
+    public Limit getRead() { return read; }
+    public void setRead(Limit read) { this.read = read; }
+
+    public Limit getSearch() { return search; }
+    public void setSearch(Limit search) { this.search = search; }
+
+    public Limit getWrite() { return write; }
+    public void setWrite(Limit write) { this.write = write; }
+
+    /**
+     * Sustained rate plus the burst a client with a full bucket may send at once
+     */
+    public static class Limit {
+
+        private double requestsPerSecond;
+
+        private int burst;
+
+        public Limit() {}
+
+        public Limit(double requestsPerSecond, int burst) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+        }
+
+        public double getRequestsPerSecond() { return requestsPerSecond; }
+        public void setRequestsPerSecond(double requestsPerSecond) { this.requestsPerSecond = requestsPerSecond; }
+
+        public int getBurst() { return burst; }
+        public void setBurst(int burst) { this.burst = burst; }
+    }
+}
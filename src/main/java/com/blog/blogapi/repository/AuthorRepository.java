@@ -1,6 +1,11 @@
 package com.blog.blogapi.repository;
 
 import com.blog.blogapi.model.Author;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +31,35 @@ public interface AuthorRepository extends JpaRepository<Author, Long> {
      */
     @Query("SELECT a FROM Author a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     java.util.List<Author> findByNameContainingIgnoreCase(@Param("name") String name);
+
+    /**
+     * Pages of authors without a count query, by offset or seeking past the last id; the posts are never touched
+     */
+    Slice<Author> findAllBy(Pageable pageable);
+    Window<Author> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+    Slice<Author> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    Window<Author> findByNameContainingIgnoreCaseOrderByIdAsc(String name, ScrollPosition position, Limit limit);
+
+    /**
+     * Load several authors with their posts in one query
+     * Used for single-author reads so serializing the posts does not need a second select
+     */
+    @Query("SELECT DISTINCT a FROM Author a LEFT JOIN FETCH a.posts WHERE a.id IN :ids")
+    java.util.List<Author> findAllWithPostsByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
+    /**
+     * Author profile in one statement: one row per category the author's posts are in, each
+     * carrying the author columns and total post count (a single row with a null category
+     * when there is none, no row when the author does not exist). Deleted posts are not counted.
+     * Columns: id, name, email, bio, website, created_at, updated_at, post_count, category_id, category_post_count
+     */
+    @Query(value = "SELECT a.id, a.name, a.email, CAST(a.bio AS VARCHAR(1000)), a.website, a.created_at, a.updated_at, " +
+                   "(SELECT COUNT(*) FROM blogpost p WHERE p.author_id = a.id AND p.deleted_at IS NULL), b.category_id, b.post_count " +
+                   "FROM authors a LEFT JOIN (" +
+                   "SELECT bc.category_id, COUNT(*) AS post_count FROM blogpost p " +
+                   "JOIN blogpost_category bc ON bc.blogpost_id = p.id " +
+                   "WHERE p.author_id = :authorId AND p.deleted_at IS NULL GROUP BY bc.category_id) b ON 1 = 1 " +
+                   "WHERE a.id = :authorId",
+           nativeQuery = true)
+    java.util.List<Object[]> findProfileRows(@Param("authorId") Long authorId);
 }
@@ -0,0 +1,19 @@
+package com.blog.blogapi.repository;
+
+import com.blog.blogapi.model.BlogPostContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BlogPostContentRepository extends JpaRepository<BlogPostContent, Long> {
+    List<BlogPostContent> findByPostIdIn(Iterable<Long> postIds);
+    // Most recent bodies, used as the training sample for the compression dictionary
+    List<BlogPostContent> findByOrderByPostIdDesc(Pageable pageable);
+    // Hash of the stored body without reading (or decoding) the body itself
+    @Query("SELECT c.contentHash FROM BlogPostContent c WHERE c.postId = :postId")
+    Optional<String> findContentHashByPostId(@Param("postId") Long postId);
+}
@@ -1,19 +1,97 @@
 package com.blog.blogapi.repository;
 
+import com.blog.blogapi.DTO.ArchiveMonthDTO;
+import com.blog.blogapi.DTO.PostSummaryDTO;
 import com.blog.blogapi.model.BlogPost;
 import com.blog.blogapi.model.Category;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
+public interface BlogPostRepository extends JpaRepository<BlogPost, Long>, BlogPostRepositoryCustom {
     List<BlogPost> findByTitleContainingIgnoreCase(String keyword);
     List<BlogPost> findByCategoriesContaining(Category category);
     List<BlogPost> findByAuthorId(Long authorId);
+    // Multi-get: the eager author comes in the same statement instead of one select per author
+    @EntityGraph(attributePaths = "author")
+    List<BlogPost> findByIdIn(Collection<Long> ids);
+    // Keyset-scrolled feeds, newest first: each page seeks past (date, id) of the previous one.
+    // The category ones join the category instead of the member-of subquery of findByCategoriesContaining
+    @EntityGraph(attributePaths = "author")
+    Window<BlogPost> findAllByOrderByDateDescIdDesc(ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = "author")
+    Window<BlogPost> findByAuthorIdOrderByDateDescIdDesc(Long authorId, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = "author")
+    Window<BlogPost> findByCategoriesIdOrderByDateDescIdDesc(Long categoryId, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = "author")
+    Window<BlogPost> findByDateBetweenOrderByDateDescIdDesc(LocalDate from, LocalDate to, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = "author")
+    Window<BlogPost> findByTitleContainingIgnoreCaseOrderByDateDescIdDesc(String keyword, ScrollPosition position, Limit limit);
+    // Offset pages of the same lists: a Slice reads one row past the page instead of counting
+    @EntityGraph(attributePaths = "author")
+    Slice<BlogPost> findAllBy(Pageable pageable);
+    @EntityGraph(attributePaths = "author")
+    Slice<BlogPost> findByAuthorId(Long authorId, Pageable pageable);
+    @EntityGraph(attributePaths = "author")
+    Slice<BlogPost> findByCategoriesId(Long categoryId, Pageable pageable);
+    @EntityGraph(attributePaths = "author")
+    Slice<BlogPost> findByTitleContainingIgnoreCase(String keyword, Pageable pageable);
+    // Archive counts per month; both read only the date index
+    @Query("SELECT new com.blog.blogapi.DTO.ArchiveMonthDTO(YEAR(bp.date), MONTH(bp.date), COUNT(bp)) FROM BlogPost bp " +
+           "WHERE bp.date < :before GROUP BY YEAR(bp.date), MONTH(bp.date)")
+    List<ArchiveMonthDTO> countByMonthBefore(@Param("before") LocalDate before);
+    @Query("SELECT new com.blog.blogapi.DTO.ArchiveMonthDTO(YEAR(bp.date), MONTH(bp.date), COUNT(bp)) FROM BlogPost bp " +
+           "WHERE bp.date >= :from GROUP BY YEAR(bp.date), MONTH(bp.date)")
+    List<ArchiveMonthDTO> countByMonthFrom(@Param("from") LocalDate from);
     @Query("SELECT COUNT(DISTINCT bp) FROM BlogPost bp JOIN bp.categories c WHERE c.id = :categoryId")
     long countByCategoryId(@Param("categoryId") Long categoryId);
-}
\ No newline at end of file
+    // Bulk category removal: one statement for the whole set, returning the rows actually deleted
+    // (bulk assignment lives in BlogPostRepositoryCustom, its SQL depends on the database).
+    // The persistence context is cleared because loaded posts still hold the old collections.
+    // Native SQL bypasses the entity's deleted_at restriction, so these filter deleted posts themselves.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM blogpost_category WHERE category_id = :categoryId " +
+                   "AND blogpost_id IN (SELECT bp.id FROM BlogPost bp WHERE bp.id IN (:postIds) AND bp.deleted_at IS NULL)",
+           nativeQuery = true)
+    int removeCategoryFromPosts(@Param("categoryId") Long categoryId, @Param("postIds") Collection<Long> postIds);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM blogpost_category WHERE category_id = :categoryId " +
+                   "AND blogpost_id IN (SELECT bp.id FROM BlogPost bp WHERE bp.author_id = :authorId AND bp.deleted_at IS NULL)",
+           nativeQuery = true)
+    int removeCategoryFromAuthorPosts(@Param("categoryId") Long categoryId, @Param("authorId") Long authorId);
+    @Query("SELECT new com.blog.blogapi.DTO.PostSummaryDTO(bp.id, bp.title, bp.excerpt, a.id, a.name, bp.date, bp.wordCount, bp.readingTimeMinutes) " +
+           "FROM BlogPost bp LEFT JOIN bp.author a WHERE bp.id IN :ids")
+    List<PostSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    // First page of an author feed as summaries; FeedCursor continues it in the keyset feed
+    @Query("SELECT new com.blog.blogapi.DTO.PostSummaryDTO(bp.id, bp.title, bp.excerpt, a.id, a.name, bp.date, bp.wordCount, bp.readingTimeMinutes) " +
+           "FROM BlogPost bp JOIN bp.author a WHERE a.id = :authorId ORDER BY bp.date DESC, bp.id DESC")
+    List<PostSummaryDTO> findSummariesByAuthorId(@Param("authorId") Long authorId, Limit limit);
+    // Post counts of a page of authors, one row (author id, count) per author with posts
+    @Query("SELECT bp.author.id, COUNT(bp) FROM BlogPost bp WHERE bp.author.id IN :authorIds GROUP BY bp.author.id")
+    List<Object[]> countByAuthorIdIn(@Param("authorIds") Collection<Long> authorIds);
+    // Newest perAuthor summaries of each author in one statement, as PostSummaryDTO constructor columns
+    @Query(value = "SELECT ranked.id, ranked.title, ranked.excerpt, ranked.author_id, a.name, ranked.date, " +
+                   "ranked.word_count, ranked.reading_time_minutes FROM (" +
+                   "SELECT bp.id, bp.title, bp.excerpt, bp.author_id, bp.date, bp.word_count, bp.reading_time_minutes, " +
+                   "ROW_NUMBER() OVER (PARTITION BY bp.author_id ORDER BY bp.date DESC, bp.id DESC) AS position " +
+                   "FROM blogpost bp WHERE bp.author_id IN (:authorIds) AND bp.deleted_at IS NULL) ranked " +
+                   "JOIN authors a ON a.id = ranked.author_id " +
+                   "WHERE ranked.position <= :perAuthor ORDER BY ranked.author_id, ranked.position",
+           nativeQuery = true)
+    List<Object[]> findNewestSummaryRowsByAuthorIdIn(@Param("authorIds") Collection<Long> authorIds, @Param("perAuthor") int perAuthor);
+    @Query("SELECT DISTINCT bp.author.id FROM BlogPost bp WHERE bp.id IN :ids AND bp.author IS NOT NULL")
+    List<Long> findAuthorIdsByIdIn(@Param("ids") Collection<Long> ids);
+}
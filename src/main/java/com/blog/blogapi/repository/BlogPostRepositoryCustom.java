@@ -0,0 +1,50 @@
+package com.blog.blogapi.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Hand-written queries for BlogPost that Spring Data cannot derive
+ */
+public interface BlogPostRepositoryCustom {
+
+    /**
+     * Columns of blogpost that can be requested through a sparse fieldset (?fields=...).
+     * "content" is stored in blogpost_content and attached by the service layer.
+     */
+    Set<String> PROJECTABLE_FIELDS = Set.of("id", "title", "date", "authorId", "excerpt", "wordCount", "readingTimeMinutes");
+    String CONTENT_FIELD = "content";
+
+    /**
+     * Dynamic projections: only the requested columns are selected ("id" is always included)
+     */
+    Optional<Map<String, Object>> findFieldsById(Long id, Set<String> fields);
+
+    /**
+     * Newest-first page of an author's posts, by offset or after the (date, id) keys of a scroll position.
+     * The rows always carry "date" as well, the key of the next position.
+     */
+    Slice<Map<String, Object>> findFieldsByAuthorId(Long authorId, Set<String> fields, Pageable pageable);
+
+    Window<Map<String, Object>> findFieldsByAuthorId(Long authorId, Set<String> fields, ScrollPosition position, Limit limit);
+
+    Page<Map<String, Object>> findAllFields(Pageable pageable, Set<String> fields);
+
+    /**
+     * Bulk category assignment with one INSERT ... SELECT. Pairs that already exist (or post ids
+     * that do not, or deleted posts) are skipped, so the returned count is the rows actually added.
+     * Flushes before and clears the persistence context after, like a clearing @Modifying query.
+     */
+    int addCategoryToPosts(Long categoryId, Collection<Long> postIds);
+
+    int addCategoryToAuthorPosts(Long categoryId, Long authorId);
+}
@@ -0,0 +1,229 @@
+package com.blog.blogapi.repository;
+
+import com.blog.blogapi.model.BlogPost;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+public class BlogPostRepositoryCustomImpl implements BlogPostRepositoryCustom {
+
+    private static final String INSERT_CATEGORY_PAIRS =
+            "INSERT INTO blogpost_category (blogpost_id, category_id) SELECT bp.id, :categoryId FROM blogpost bp ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
+    private volatile Boolean postgres;
+
+    @Override
+    public int addCategoryToPosts(Long categoryId, Collection<Long> postIds) {
+        return insertCategoryPairs("bp.id IN (:postIds)", categoryId, query -> query.setParameter("postIds", postIds));
+    }
+
+    @Override
+    public int addCategoryToAuthorPosts(Long categoryId, Long authorId) {
+        return insertCategoryPairs("bp.author_id = :authorId", categoryId, query -> query.setParameter("authorId", authorId));
+    }
+
+    private int insertCategoryPairs(String selection, Long categoryId, Consumer<Query> binder) {
+        String sql = INSERT_CATEGORY_PAIRS + "WHERE " + selection + " AND bp.deleted_at IS NULL ";
+        if (isPostgres()) {
+            // Race-free: a pair inserted by a concurrent assignment is skipped instead of failing on the key
+            sql += "ON CONFLICT (blogpost_id, category_id) DO NOTHING";
+        } else {
+            // H2 (tests) has no ON CONFLICT with a target; the check is enough for a single writer
+            sql += "AND NOT EXISTS (SELECT 1 FROM blogpost_category bc WHERE bc.blogpost_id = bp.id AND bc.category_id = :categoryId)";
+        }
+
+        entityManager.flush();
+        Query query = entityManager.createNativeQuery(sql).setParameter("categoryId", categoryId);
+        binder.accept(query);
+        int inserted = query.executeUpdate();
+        // Loaded posts still hold their old category collections
+        entityManager.clear();
+        return inserted;
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, Set<String> fields) {
+        return selectFields(fields, (cb, root) -> cb.equal(root.get("id"), id), null)
+                .getResultList().stream()
+                .findFirst()
+                .map(BlogPostRepositoryCustomImpl::toMap);
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findFieldsByAuthorId(Long authorId, Set<String> fields, Pageable pageable) {
+        TypedQuery<Tuple> query = selectFields(withSortKey(fields), (cb, root) -> byAuthor(cb, root, authorId), pageable);
+        query.setFirstResult((int) pageable.getOffset());
+        // One row past the page tells whether there is a next one, no count query
+        query.setMaxResults(pageable.getPageSize() + 1);
+
+        List<Map<String, Object>> rows = query.getResultList().stream()
+                .map(BlogPostRepositoryCustomImpl::toMap)
+                .toList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Window<Map<String, Object>> findFieldsByAuthorId(Long authorId, Set<String> fields, ScrollPosition position, Limit limit) {
+        Map<String, Object> keys = position instanceof KeysetScrollPosition keyset ? keyset.getKeys() : Map.of();
+        TypedQuery<Tuple> query = selectFields(withSortKey(fields), (cb, root) -> {
+            Predicate author = byAuthor(cb, root, authorId);
+            if (keys.isEmpty()) {
+                return author;
+            }
+            // Seek past (date, id) of the previous page's last row, newest first
+            LocalDate date = (LocalDate) keys.get("date");
+            Long id = (Long) keys.get("id");
+            return cb.and(author, cb.or(
+                    cb.lessThan(root.get("date"), date),
+                    cb.and(cb.equal(root.get("date"), date), cb.lessThan(root.get("id"), id))));
+        }, PageRequest.of(0, limit.max(), NEWEST_FIRST));
+        query.setMaxResults(limit.max() + 1);
+
+        List<Map<String, Object>> rows = query.getResultList().stream()
+                .map(BlogPostRepositoryCustomImpl::toMap)
+                .toList();
+        boolean hasNext = rows.size() > limit.max();
+        List<Map<String, Object>> content = hasNext ? rows.subList(0, limit.max()) : rows;
+        return Window.from(content,
+                index -> ScrollPosition.forward(Map.of("date", content.get(index).get("date"), "id", content.get(index).get("id"))),
+                hasNext);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllFields(Pageable pageable, Set<String> fields) {
+        TypedQuery<Tuple> query = selectFields(fields, null, pageable);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> content = query.getResultList().stream()
+                .map(BlogPostRepositoryCustomImpl::toMap)
+                .toList();
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(content);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, this::countAll);
+    }
+
+    private TypedQuery<Tuple> selectFields(Set<String> fields,
+                                           BiFunction<CriteriaBuilder, Root<BlogPost>, Predicate> where,
+                                           Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BlogPost> root = query.from(BlogPost.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : normalize(fields)) {
+            selections.add(path(root, field).alias(field));
+        }
+        query.multiselect(selections);
+
+        if (where != null) {
+            query.where(where.apply(cb, root));
+        }
+        if (pageable != null && pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static Predicate byAuthor(CriteriaBuilder cb, Root<BlogPost> root, Long authorId) {
+        return cb.equal(root.get("author").get("id"), authorId);
+    }
+
+    private long countAll() {
+        return entityManager.createQuery("SELECT COUNT(bp) FROM BlogPost bp", Long.class).getSingleResult();
+    }
+
+    private static Path<?> path(Root<BlogPost> root, String field) {
+        // authorId reads the foreign key column, no join on authors
+        return "authorId".equals(field) ? root.get("author").get("id") : root.get(field);
+    }
+
+    /**
+     * Author pages also read "date": it is the sort key the next cursor is built from
+     */
+    private static Set<String> withSortKey(Set<String> fields) {
+        Set<String> withDate = new LinkedHashSet<>(fields);
+        withDate.add("date");
+        return withDate;
+    }
+
+    private static Set<String> normalize(Set<String> fields) {
+        Set<String> normalized = new LinkedHashSet<>();
+        normalized.add("id");
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty() || CONTENT_FIELD.equals(name)) {
+                continue;
+            }
+            if (!PROJECTABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'. Allowed fields: " + PROJECTABLE_FIELDS);
+            }
+            normalized.add(name);
+        }
+        return normalized;
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TupleElement<?> element : tuple.getElements()) {
+            row.put(element.getAlias(), tuple.get(element));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,10 @@
+package com.blog.blogapi.repository;
+
+import com.blog.blogapi.model.ContentDictionary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ContentDictionaryRepository extends JpaRepository<ContentDictionary, Long> {
+    Optional<ContentDictionary> findTopByOrderByIdDesc();
+}
@@ -0,0 +1,7 @@
+package com.blog.blogapi.repository;
+
+import com.blog.blogapi.model.RenderedHtml;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RenderedHtmlRepository extends JpaRepository<RenderedHtml, String> {
+}
@@ -0,0 +1,180 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.AuthorProfileDTO;
+import com.blog.blogapi.DTO.CategoryCountDTO;
+import com.blog.blogapi.DTO.CategoryDTO;
+import com.blog.blogapi.DTO.FeedPage;
+import com.blog.blogapi.DTO.PostSummaryDTO;
+import com.blog.blogapi.config.AuthorProfileProperties;
+import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationListener;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Author pages as one unit: author, post count, category breakdown and the newest posts
+ * A profile costs two queries (author with counts, then the first page of summaries) and
+ * is kept in an in-memory LRU afterwards. The bus drops it when the author or one of their
+ * posts changes, and drops every profile when a category changes (names are part of it).
+ */
+@Service
+public class AuthorProfileService {
+
+    private final AuthorRepository authorRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final InvalidationBus invalidationBus;
+    private final AuthorProfileProperties properties;
+    private final TransactionTemplate readTransaction;
+    private final Map<Long, AuthorProfileDTO> cache;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public AuthorProfileService(AuthorRepository authorRepository,
+                                BlogPostRepository blogPostRepository,
+                                CategoryCatalog categoryCatalog,
+                                InvalidationBus invalidationBus,
+                                AuthorProfileProperties properties,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.authorRepository = authorRepository;
+        this.blogPostRepository = blogPostRepository;
+        this.categoryCatalog = categoryCatalog;
+        this.invalidationBus = invalidationBus;
+        this.properties = properties;
+
+        // Cache hits answer without a transaction, so no pooled connection is taken for them
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+
+        int cacheSize = properties.getCacheSize();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AuthorProfileDTO> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        this.cacheHits = Counter.builder("blog.authors.profile.cache")
+                .tag("result", "hit")
+                .description("Author profiles served from memory")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("blog.authors.profile.cache")
+                .tag("result", "miss")
+                .description("Author profiles built from the database")
+                .register(meterRegistry);
+        meterRegistry.gauge("blog.authors.profile.cached", cache, Map::size);
+
+        invalidationBus.subscribe(EntityType.AUTHOR, InvalidationListener.of(cache::remove, cache::clear));
+        invalidationBus.subscribe(EntityType.CATEGORY, InvalidationListener.of(id -> cache.clear(), cache::clear));
+    }
+
+    /**
+     * Profile of an author. The returned object is shared with other readers, do not modify it.
+     */
+    public AuthorProfileDTO getProfile(Long authorId) {
+        AuthorProfileDTO cached = cache.get(authorId);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+
+        long stamp = invalidationBus.stamp();
+        AuthorProfileDTO profile = readTransaction.execute(status -> load(authorId));
+        if (invalidationBus.isCurrent(EntityType.AUTHOR, authorId, stamp)) {
+            cache.put(authorId, profile);
+            // An invalidation may have landed between the check and the put
+            if (!invalidationBus.isCurrent(EntityType.AUTHOR, authorId, stamp)) {
+                cache.remove(authorId, profile);
+            }
+        }
+        return profile;
+    }
+
+    private AuthorProfileDTO load(Long authorId) {
+        List<Object[]> rows = authorRepository.findProfileRows(authorId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Author not found with id " + authorId);
+        }
+
+        Object[] first = rows.get(0);
+        AuthorProfileDTO profile = new AuthorProfileDTO();
+        profile.setId(((Number) first[0]).longValue());
+        profile.setName((String) first[1]);
+        profile.setEmail((String) first[2]);
+        profile.setBio((String) first[3]);
+        profile.setWebsite((String) first[4]);
+        profile.setCreatedAt(toLocalDateTime(first[5]));
+        profile.setUpdatedAt(toLocalDateTime(first[6]));
+        profile.setPostCount(((Number) first[7]).longValue());
+        profile.setCategories(categoryCounts(rows));
+
+        int pageSize = properties.getPostsPageSize();
+        List<PostSummaryDTO> posts = profile.getPostCount() == 0
+                ? List.of()
+                : blogPostRepository.findSummariesByAuthorId(authorId, Limit.of(pageSize));
+        String nextCursor = null;
+        if (profile.getPostCount() > posts.size() && !posts.isEmpty()) {
+            PostSummaryDTO last = posts.get(posts.size() - 1);
+            if (last.getPublishedDate() != null) {
+                nextCursor = FeedCursor.encode(last.getPublishedDate(), last.getId());
+            }
+        }
+        profile.setPosts(new FeedPage<>(posts, nextCursor));
+        return profile;
+    }
+
+    // Names come from the in-memory catalog; a category deleted meanwhile is left out
+    private List<CategoryCountDTO> categoryCounts(List<Object[]> rows) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            if (row[8] != null) {
+                counts.put(((Number) row[8]).longValue(), ((Number) row[9]).longValue());
+            }
+        }
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> names = categoryCatalog.findAllById(counts.keySet()).stream()
+                .collect(Collectors.toMap(CategoryDTO::getId, CategoryDTO::getName));
+
+        List<CategoryCountDTO> categories = new ArrayList<>(counts.size());
+        counts.forEach((id, count) -> {
+            String name = names.get(id);
+            if (name != null) {
+                categories.add(new CategoryCountDTO(id, name, count));
+            }
+        });
+        categories.sort(Comparator.comparingLong(CategoryCountDTO::getPostCount).reversed()
+                .thenComparing(CategoryCountDTO::getName, String.CASE_INSENSITIVE_ORDER));
+        return categories;
+    }
+
+    // Drivers hand native timestamp columns back as either type
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,367 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.AuthorRemovalDTO;
+import com.blog.blogapi.config.AuthorRemovalProperties;
+import com.blog.blogapi.exception.ConflictException;
+import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.repository.AuthorRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Removes authors together with their posts, or after handing the posts to another author
+ * Posts and their blogpost_category / blogpost_content rows are deleted or moved with a few
+ * set-based statements, never loaded as entities. remove() does all of it in one transaction;
+ * startRemoval() runs it in the background, chunk-size posts per transaction, for authors with
+ * so many posts that one transaction would hold too many row locks for too long.
+ * Soft-deleted posts still reference their author and are removed or moved along with the rest.
+ */
+@Service
+public class AuthorRemovalService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorRemovalService.class);
+
+    private static final RowMapper<PostRow> POST_ROW = (rs, rowNum) ->
+            new PostRow(rs.getLong("id"), rs.getObject("date", LocalDate.class), rs.getObject("deleted_at") == null);
+
+    /**
+     * What happens to the posts of a removed author
+     */
+    public enum PostHandling {
+        // Refuse while the author has live posts
+        NONE,
+        DELETE,
+        REASSIGN;
+
+        public static PostHandling parse(String value) {
+            if (value == null || value.isBlank()) {
+                return NONE;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("posts must be 'delete' or 'reassign', got '" + value + "'");
+            }
+        }
+    }
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final AuthorRepository authorRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+    private final TrendingService trendingService;
+    private final AuthorRemovalProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    // Every job by id, oldest first; finished ones are pruned beyond finished-jobs-kept
+    private final Map<String, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+    // Queued or running job per author, so a repeated request joins the job instead of racing it
+    private final Map<Long, Job> activeByAuthor = new ConcurrentHashMap<>();
+
+    public AuthorRemovalService(AuthorRepository authorRepository,
+                                JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                InvalidationBus invalidationBus,
+                                TrendingService trendingService,
+                                AuthorRemovalProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.authorRepository = authorRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.invalidationBus = invalidationBus;
+        this.trendingService = trendingService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        // One removal at a time; the others wait in the queue as QUEUED
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "author-removal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Remove an author and handle their posts, all in one transaction
+     * With NONE the author must have no live posts; their soft-deleted ones are removed.
+     */
+    @Transactional
+    public AuthorRemovalDTO remove(Long authorId, PostHandling handling, Long reassignTo) {
+        requireAuthor(authorId);
+        requireTarget(authorId, handling, reassignTo);
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        List<PostRow> posts = jdbcTemplate.query(
+                "SELECT id, date, deleted_at FROM blogpost WHERE author_id = ?", POST_ROW, authorId);
+        List<PostRow> live = posts.stream().filter(PostRow::live).toList();
+        if (handling == PostHandling.NONE && !live.isEmpty()) {
+            throw new ConflictException("Cannot delete author. Author has " + live.size() + " associated blog posts.");
+        }
+
+        if (handling == PostHandling.REASSIGN) {
+            jdbcTemplate.update("UPDATE blogpost SET author_id = ? WHERE author_id = ?", reassignTo, authorId);
+        } else if (!posts.isEmpty()) {
+            String selection = "(SELECT id FROM blogpost WHERE author_id = ?)";
+            jdbcTemplate.update("DELETE FROM blogpost_category WHERE blogpost_id IN " + selection, authorId);
+            jdbcTemplate.update("DELETE FROM blogpost_content WHERE post_id IN " + selection, authorId);
+            jdbcTemplate.update("DELETE FROM blogpost WHERE author_id = ?", authorId);
+        }
+        jdbcTemplate.update("DELETE FROM authors WHERE id = ?", authorId);
+
+        postsChanged(handling, live);
+        invalidationBus.publishAfterCommit(EntityType.AUTHOR, authorId);
+        if (reassignTo != null) {
+            invalidationBus.publishAfterCommit(EntityType.AUTHOR, reassignTo);
+        }
+        countPosts(handling, posts.size());
+        log.info("Removed author {} ({} posts, {})", authorId, posts.size(), handling);
+
+        Job done = new Job(null, authorId, handling, reassignTo, posts.size());
+        done.startedAt = startedAt;
+        done.processed = posts.size();
+        done.finish(Status.COMPLETED, null);
+        return done.toDTO();
+    }
+
+    /**
+     * Queue a background removal and return its job; joins the pending job when the author already has one
+     */
+    public AuthorRemovalDTO startRemoval(Long authorId, PostHandling handling, Long reassignTo) {
+        if (handling == PostHandling.NONE) {
+            throw new IllegalArgumentException("posts must be 'delete' or 'reassign' for a background removal");
+        }
+        Job pending = activeByAuthor.get(authorId);
+        if (pending != null) {
+            return pending.toDTO();
+        }
+        requireAuthor(authorId);
+        requireTarget(authorId, handling, reassignTo);
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM blogpost WHERE author_id = ?", Long.class, authorId);
+        Job job = new Job(UUID.randomUUID().toString(), authorId, handling, reassignTo, total != null ? total : 0);
+        Job existing = activeByAuthor.putIfAbsent(authorId, job);
+        if (existing != null) {
+            return existing.toDTO();
+        }
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job));
+        return job.toDTO();
+    }
+
+    public AuthorRemovalDTO getRemoval(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Author removal not found with id " + jobId);
+        }
+        return job.toDTO();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job) {
+        job.status = Status.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        int chunkSize = properties.getChunkSize();
+        try {
+            while (true) {
+                Integer handled = transactionTemplate.execute(status -> processChunk(job, chunkSize));
+                int count = handled != null ? handled : 0;
+                job.processed += count;
+                countPosts(job.handling, count);
+                if (count < chunkSize) {
+                    break;
+                }
+                if (!pause()) {
+                    throw new IllegalStateException("Interrupted, the author still has posts left");
+                }
+            }
+            // A post the author wrote after the last chunk makes this fail on the foreign key; run the removal again
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM authors WHERE id = ?", job.authorId);
+                invalidationBus.publishAfterCommit(EntityType.AUTHOR, job.authorId);
+            });
+            job.finish(Status.COMPLETED, null);
+            log.info("Removed author {} in the background ({} posts, {})", job.authorId, job.processed, job.handling);
+        } catch (RuntimeException e) {
+            log.warn("Background removal of author {} failed after {} posts", job.authorId, job.processed, e);
+            job.finish(Status.FAILED, e.getMessage());
+        } finally {
+            activeByAuthor.remove(job.authorId, job);
+            pruneFinishedJobs();
+        }
+    }
+
+    // One transaction: the next chunk of the author's posts, deleted or moved with batched statements
+    private int processChunk(Job job, int chunkSize) {
+        List<PostRow> posts = jdbcTemplate.query(
+                "SELECT id, date, deleted_at FROM blogpost WHERE author_id = ? ORDER BY id LIMIT ?",
+                POST_ROW, job.authorId, chunkSize);
+        if (posts.isEmpty()) {
+            return 0;
+        }
+
+        if (job.handling == PostHandling.REASSIGN) {
+            List<Object[]> rows = posts.stream().map(post -> new Object[]{job.reassignTo, post.id(), job.authorId}).toList();
+            jdbcTemplate.batchUpdate("UPDATE blogpost SET author_id = ? WHERE id = ? AND author_id = ?", rows);
+            invalidationBus.publishAfterCommit(EntityType.AUTHOR, job.reassignTo);
+        } else {
+            List<Object[]> rows = posts.stream().map(post -> new Object[]{post.id()}).toList();
+            jdbcTemplate.batchUpdate("DELETE FROM blogpost_category WHERE blogpost_id = ?", rows);
+            jdbcTemplate.batchUpdate("DELETE FROM blogpost_content WHERE post_id = ?", rows);
+            jdbcTemplate.batchUpdate("DELETE FROM blogpost WHERE id = ?", rows);
+        }
+        postsChanged(job.handling, posts.stream().filter(PostRow::live).toList());
+        return posts.size();
+    }
+
+    // Soft-deleted posts were announced when they were deleted, live ones are announced here
+    private void postsChanged(PostHandling handling, List<PostRow> live) {
+        live.forEach(post -> invalidationBus.publishAfterCommit(EntityType.POST, post.id()));
+        if (handling == PostHandling.REASSIGN) {
+            return;
+        }
+        live.forEach(post -> trendingService.forget(post.id()));
+        Set<Long> months = live.stream()
+                .filter(post -> post.date() != null)
+                .map(post -> PostArchive.monthId(post.date()))
+                .collect(Collectors.toSet());
+        months.forEach(month -> invalidationBus.publishAfterCommit(EntityType.ARCHIVE_MONTH, month));
+    }
+
+    private void requireAuthor(Long authorId) {
+        if (!authorRepository.existsById(authorId)) {
+            throw new ResourceNotFoundException("Author not found with id " + authorId);
+        }
+    }
+
+    private void requireTarget(Long authorId, PostHandling handling, Long reassignTo) {
+        if (handling != PostHandling.REASSIGN) {
+            if (reassignTo != null) {
+                throw new IllegalArgumentException("reassignTo is only allowed with posts=reassign");
+            }
+            return;
+        }
+        if (reassignTo == null) {
+            throw new IllegalArgumentException("reassignTo is required with posts=reassign");
+        }
+        if (reassignTo.equals(authorId)) {
+            throw new IllegalArgumentException("Posts cannot be reassigned to the author being removed");
+        }
+        if (!authorRepository.existsById(reassignTo)) {
+            throw new ResourceNotFoundException("Author not found with id " + reassignTo);
+        }
+    }
+
+    private void countPosts(PostHandling handling, long count) {
+        if (count > 0) {
+            meterRegistry.counter("blog.authors.removal.posts", "posts", handling.name().toLowerCase(Locale.ROOT)).increment(count);
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        synchronized (jobs) {
+            long finished = jobs.values().stream().filter(Job::isFinished).count();
+            Iterator<Job> oldestFirst = jobs.values().iterator();
+            while (finished > properties.getFinishedJobsKept() && oldestFirst.hasNext()) {
+                if (oldestFirst.next().isFinished()) {
+                    oldestFirst.remove();
+                    finished--;
+                }
+            }
+        }
+    }
+
+    // Throttle between chunks; false when interrupted (shutdown)
+    private boolean pause() {
+        if (properties.getPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record PostRow(long id, LocalDate date, boolean live) {}
+
+    // Written by the removal thread only, read by status requests
+    private static final class Job {
+        private final String id;
+        private final Long authorId;
+        private final PostHandling handling;
+        private final Long reassignTo;
+        private final long total;
+        private volatile Status status = Status.QUEUED;
+        private volatile long processed;
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, Long authorId, PostHandling handling, Long reassignTo, long total) {
+            this.id = id;
+            this.authorId = authorId;
+            this.handling = handling;
+            this.reassignTo = reassignTo;
+            this.total = total;
+        }
+
+        private void finish(Status status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED;
+        }
+
+        private AuthorRemovalDTO toDTO() {
+            AuthorRemovalDTO dto = new AuthorRemovalDTO();
+            dto.setJobId(id);
+            dto.setAuthorId(authorId);
+            dto.setPosts(handling.name());
+            dto.setReassignTo(reassignTo);
+            dto.setStatus(status.name());
+            // Posts added while the job runs are processed too
+            dto.setTotalPosts(Math.max(total, processed));
+            dto.setProcessedPosts(processed);
+            dto.setError(error);
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            return dto;
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.blog.blogapi.service;
 
+import com.blog.blogapi.DTO.AuthorDTO;
+import com.blog.blogapi.DTO.BatchResult;
+import com.blog.blogapi.DTO.FeedPage;
+import com.blog.blogapi.DTO.ListPage;
+import com.blog.blogapi.DTO.PostSummaryDTO;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
 import com.blog.blogapi.model.Author;
 import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,12 +31,34 @@ import java.util.Optional;
 @RequiredArgsConstructor // Modernized dependency injection
 public class AuthorService {
 
+    static final int MAX_EMBEDDED_POSTS = 20;
+    private static final Sort BY_ID = Sort.by("id");
+    // Ids per IN list when counting posts or loading summaries for many authors
+    private static final int ID_CHUNK = 1000;
+
     private final AuthorRepository authorRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final ReadCoalescer readCoalescer;
+    private final InvalidationBus invalidationBus;
+    private final AuthorRemovalService authorRemovalService;
 
     public List<Author> getAllAuthors() {
         return authorRepository.findAll();
     }
 
+    /**
+     * A page of authors as list views ordered by id, by page number or after a cursor.
+     * Costs two statements per page (three with embedded posts) however many posts exist.
+     */
+    public ListPage<AuthorDTO> getAuthors(Pagination.Spec spec, int postsPerAuthor) {
+        requireEmbeddedPosts(postsPerAuthor);
+        ListPage<Author> page = spec.isCursorMode()
+                ? Pagination.toPage(spec, authorRepository.findAllByOrderByIdAsc(FeedCursor.decodeId(spec.cursor()), spec.limit()),
+                        author -> author, AuthorService::cursorOf)
+                : Pagination.toPage(spec, authorRepository.findAllBy(spec.pageable(BY_ID)), author -> author, AuthorService::cursorOf);
+        return page.withItems(toDTOs(page.getItems(), postsPerAuthor));
+    }
+
     public Optional<Author> getAuthorByIdOptional(Long id) {
         return authorRepository.findById(id);
     }
@@ -32,6 +68,29 @@ public class AuthorService {
                 .orElseThrow(() -> new ResourceNotFoundException("Author not found with id " + id));
     }
 
+    /**
+     * Author with their posts for display, as a detached copy: concurrent reads of the same
+     * author share one query (see ReadCoalescer). Use getAuthorById for an author to modify.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Author readAuthorById(Long id) {
+        return readCoalescer.load(EntityType.AUTHOR, id, () -> authorRepository.findAllWithPostsByIdIn(List.of(id)).stream()
+                        .findFirst()
+                        .map(AuthorService::detachedCopy))
+                .map(AuthorService::detachedCopy)
+                .orElseThrow(() -> new ResourceNotFoundException("Author not found with id " + id));
+    }
+
+    /**
+     * Multi-get: authors in the order of the requested ids as list views with their post
+     * counts, in two queries; the posts themselves are never loaded
+     */
+    public BatchResult<AuthorDTO> getAuthorsByIds(List<Long> ids) {
+        BatchResult.requireValidIds(ids);
+        List<AuthorDTO> authors = toDTOs(authorRepository.findAllById(new LinkedHashSet<>(ids)), 0);
+        return BatchResult.of(ids, authors, AuthorDTO::getId, author -> author);
+    }
+
     @Transactional
     public Author createAuthor(Author author) {
         if (author.getName() != null) {
@@ -46,7 +105,9 @@ public class AuthorService {
             throw new IllegalArgumentException("Author with email " + author.getEmail() + " already exists");
         }
 
-        return authorRepository.save(author);
+        Author saved = authorRepository.save(author);
+        invalidationBus.publishAfterCommit(EntityType.AUTHOR, saved.getId());
+        return saved;
     }
 
     @Transactional
@@ -78,23 +139,18 @@ public class AuthorService {
                         existingAuthor.setWebsite(updatedAuthor.getWebsite().trim());
                     }
 
+                    invalidationBus.publishAfterCommit(EntityType.AUTHOR, id);
                     return authorRepository.save(existingAuthor);
                 })
                 .orElseThrow(() -> new ResourceNotFoundException("Author not found with id " + id));
     }
 
+    /**
+     * Delete an author without posts; see AuthorRemovalService to delete or reassign their posts
+     */
     @Transactional
     public void deleteAuthor(Long id) {
-        if (!authorRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Author not found with id " + id);
-        }
-
-        // Business rule: In the future, you might want to:
-        // - Check if author has published posts
-        // - Maybe soft delete instead of hard delete
-        // - Transfer posts to another author
-
-        authorRepository.deleteById(id);
+        authorRemovalService.remove(id, AuthorRemovalService.PostHandling.NONE, null);
     }
 
     public boolean existsByEmail(String email) {
@@ -141,8 +197,18 @@ public class AuthorService {
     /**
      * Search authors by name - Required by Swagger-documented endpoint
      */
-    public List<Author> searchAuthorsByName(String name) {
-        return findAuthorsByNameContaining(name);
+    public ListPage<AuthorDTO> searchAuthorsByName(String name, Pagination.Spec spec, int postsPerAuthor) {
+        if (name == null || name.trim().isEmpty()) {
+            return getAuthors(spec, postsPerAuthor);
+        }
+        requireEmbeddedPosts(postsPerAuthor);
+        String trimmed = name.trim();
+        ListPage<Author> page = spec.isCursorMode()
+                ? Pagination.toPage(spec, authorRepository.findByNameContainingIgnoreCaseOrderByIdAsc(
+                        trimmed, FeedCursor.decodeId(spec.cursor()), spec.limit()), author -> author, AuthorService::cursorOf)
+                : Pagination.toPage(spec, authorRepository.findByNameContainingIgnoreCase(trimmed, spec.pageable(BY_ID)),
+                        author -> author, AuthorService::cursorOf);
+        return page.withItems(toDTOs(page.getItems(), postsPerAuthor));
     }
 
     /**
@@ -154,12 +220,12 @@ public class AuthorService {
 
     /**
      * Get authors with post counts - Required by Swagger-documented endpoint
-     * This method returns authors along with their blog post counts
+     * The counts of a page come from one grouped query instead of one count per author
      */
-    public List<Map<String, Object>> getAuthorsWithPostCounts() {
-        List<Author> authors = getAllAuthors();
+    public ListPage<Map<String, Object>> getAuthorsWithPostCounts(Pagination.Spec spec) {
+        ListPage<AuthorDTO> authors = getAuthors(spec, 0);
 
-        return authors.stream()
+        return authors.withItems(authors.getItems().stream()
                 .map(author -> {
                     Map<String, Object> authorWithCount = new HashMap<>();
                     authorWithCount.put("id", author.getId());
@@ -167,23 +233,80 @@ public class AuthorService {
                     authorWithCount.put("email", author.getEmail());
                     authorWithCount.put("bio", author.getBio());
                     authorWithCount.put("website", author.getWebsite());
+                    authorWithCount.put("postCount", author.getPostCount());
+                    return authorWithCount;
+                })
+                .toList());
+    }
 
-                    // Count posts for this author
-                    // You'll need to add this to your BlogService or create a method here
-                    // For now, returning 0 as placeholder
-                    long postCount = getPostCountByAuthor(author.getId());
-                    authorWithCount.put("postCount", postCount);
+    // Post counts (and the newest summaries) of all listed authors in a few grouped statements
+    private List<AuthorDTO> toDTOs(List<Author> authors, int postsPerAuthor) {
+        List<Long> ids = authors.stream().map(Author::getId).toList();
+        Map<Long, Long> counts = new HashMap<>();
+        Map<Long, List<PostSummaryDTO>> newest = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK, ids.size()));
+            for (Object[] row : blogPostRepository.countByAuthorIdIn(chunk)) {
+                counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            }
+            if (postsPerAuthor > 0) {
+                for (Object[] row : blogPostRepository.findNewestSummaryRowsByAuthorIdIn(chunk, postsPerAuthor)) {
+                    PostSummaryDTO summary = toSummary(row);
+                    newest.computeIfAbsent(summary.getAuthorId(), id -> new ArrayList<>()).add(summary);
+                }
+            }
+        }
 
-                    return authorWithCount;
+        return authors.stream()
+                .map(author -> {
+                    AuthorDTO dto = new AuthorDTO();
+                    dto.setId(author.getId());
+                    dto.setName(author.getName());
+                    dto.setEmail(author.getEmail());
+                    dto.setBio(author.getBio());
+                    dto.setWebsite(author.getWebsite());
+                    dto.setCreatedAt(author.getCreatedAt());
+                    dto.setUpdatedAt(author.getUpdatedAt());
+                    dto.setPostCount(counts.getOrDefault(author.getId(), 0L));
+                    if (postsPerAuthor > 0) {
+                        dto.setPosts(postsSlice(newest.getOrDefault(author.getId(), List.of()), dto.getPostCount()));
+                    }
+                    return dto;
                 })
                 .toList();
     }
 
-    /**
-     * Helper method to get post count by author
-     * Uses repository query to count posts efficiently
-     */
-    private long getPostCountByAuthor(Long authorId) {
-        return authorRepository.countPostsByAuthorId(authorId);
+    private static FeedPage<PostSummaryDTO> postsSlice(List<PostSummaryDTO> posts, long postCount) {
+        String nextCursor = null;
+        if (postCount > posts.size() && !posts.isEmpty()) {
+            PostSummaryDTO last = posts.get(posts.size() - 1);
+            nextCursor = FeedCursor.encode(last.getPublishedDate(), last.getId());
+        }
+        return new FeedPage<>(posts, nextCursor);
+    }
+
+    // Columns of BlogPostRepository.findNewestSummaryRowsByAuthorIdIn
+    private static PostSummaryDTO toSummary(Object[] row) {
+        return new PostSummaryDTO(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                ((Number) row[3]).longValue(), (String) row[4],
+                row[5] instanceof Date date ? date.toLocalDate() : (LocalDate) row[5],
+                row[6] != null ? ((Number) row[6]).intValue() : null,
+                row[7] != null ? ((Number) row[7]).intValue() : null);
+    }
+
+    private static String cursorOf(Author author) {
+        return FeedCursor.encodeId(author.getId());
+    }
+
+    private static void requireEmbeddedPosts(int postsPerAuthor) {
+        if (postsPerAuthor < 0 || postsPerAuthor > MAX_EMBEDDED_POSTS)
+            throw new IllegalArgumentException("Embedded posts per author must be between 0 and " + MAX_EMBEDDED_POSTS);
+    }
+
+    // Posts are copied into an unmodifiable list; the post objects themselves are shared read-only
+    private static Author detachedCopy(Author author) {
+        return new Author(author.getId(), author.getName(), author.getEmail(),
+                author.getPosts() != null ? List.copyOf(author.getPosts()) : null,
+                author.getBio(), author.getWebsite(), author.getCreatedAt(), author.getUpdatedAt());
     }
 }
\ No newline at end of file
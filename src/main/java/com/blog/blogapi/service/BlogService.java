@@ -1,42 +1,96 @@
 package com.blog.blogapi.service;
 
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationListener;
 import com.blog.blogapi.mapper.BlogPostMapper;
 import com.blog.blogapi.model.Author;
 import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.DTO.BatchResult;
 import com.blog.blogapi.DTO.BlogPostDTO;
+import com.blog.blogapi.DTO.BulkCategoryRequest;
+import com.blog.blogapi.DTO.ArchiveMonthDTO;
+import com.blog.blogapi.DTO.FeedPage;
+import com.blog.blogapi.DTO.ListPage;
+import com.blog.blogapi.DTO.PostSummaryDTO;
+import com.blog.blogapi.DTO.TrendingPostDTO;
+import com.blog.blogapi.DTO.UpdateBlogPostDTO;
+import com.blog.blogapi.config.PaginationProperties;
 import com.blog.blogapi.model.Category;
 import com.blog.blogapi.repository.BlogPostRepository;
+import com.blog.blogapi.repository.BlogPostRepositoryCustom;
 import com.blog.blogapi.repository.CategoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true) // Default: read-only transactions
 public class BlogService {
 
+    // Newest first, the order of every post list and feed
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
     private final AuthorService authorService;
     private final BlogPostRepository blogPostRepository;
     private final CategoryRepository categoryRepository;
     private final BlogPostMapper blogPostMapper;
+    private final PostContentService postContentService;
+    private final PostHtmlService postHtmlService;
+    private final PostViewCounter postViewCounter;
+    private final TrendingService trendingService;
+    private final ReadCoalescer readCoalescer;
+    private final InvalidationBus invalidationBus;
+    private final CategoryCatalog categoryCatalog;
+    private final PostArchive postArchive;
+    private final PaginationProperties paginationProperties;
 
     @Autowired
     public BlogService(AuthorService authorService,
                        BlogPostRepository blogPostRepository,
                        CategoryRepository categoryRepository,
-                       BlogPostMapper blogPostMapper) {
+                       BlogPostMapper blogPostMapper,
+                       PostContentService postContentService,
+                       PostHtmlService postHtmlService,
+                       PostViewCounter postViewCounter,
+                       TrendingService trendingService,
+                       ReadCoalescer readCoalescer,
+                       InvalidationBus invalidationBus,
+                       CategoryCatalog categoryCatalog,
+                       PostArchive postArchive,
+                       PaginationProperties paginationProperties) {
         this.authorService = authorService;
         this.blogPostRepository = blogPostRepository;
         this.categoryRepository = categoryRepository;
         this.blogPostMapper = blogPostMapper;
+        this.postContentService = postContentService;
+        this.postHtmlService = postHtmlService;
+        this.postViewCounter = postViewCounter;
+        this.trendingService = trendingService;
+        this.readCoalescer = readCoalescer;
+        this.invalidationBus = invalidationBus;
+        this.categoryCatalog = categoryCatalog;
+        this.postArchive = postArchive;
+        this.paginationProperties = paginationProperties;
+
+        // Titles in the trending list may have changed, here or on another instance
+        invalidationBus.subscribe(EntityType.POST, InvalidationListener.of(trendingService::invalidate, trendingService::invalidateAll));
     }
 
     // ========== READ OPERATIONS ==========
@@ -50,23 +104,169 @@ public class BlogService {
     }
 
     public BlogPost getPostById(Long id) {
-        return blogPostRepository.findById(id)
+        BlogPost post = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post not found with id " + id));
+
+        // The body lives in its own table, only single-post reads load it
+        post.setContent(postContentService.load(id));
+        addUnflushedViews(post);
+        return post;
     }
 
-    public List<BlogPost> getPostsByCategory(Long categoryId) {
-        // Validate category exists
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + categoryId));
+    /**
+     * A reader opening a post: counts the view and returns a copy of the post with its body
+     * Runs outside a transaction so concurrent readers of a hot post can wait for one shared
+     * load (see ReadCoalescer) without each holding a connection; the copy is detached.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BlogPost viewPost(Long id) {
+        BlogPost post = readCoalescer.load(EntityType.POST, id, () -> blogPostRepository.findById(id).map(found -> {
+                    BlogPost loaded = detachedCopy(found);
+                    loaded.setContent(postContentService.load(id));
+                    return loaded;
+                }))
+                .map(BlogService::detachedCopy)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id " + id));
 
-        return blogPostRepository.findByCategoriesContaining(category);
+        addUnflushedViews(post);
+        postViewCounter.record(id);
+        trendingService.recordView(id);
+        post.setViewCount(post.getViewCount() + 1);
+        return post;
     }
 
-    public List<BlogPost> getPostsByAuthor(Long authorId) {
-        // Validate author exists first
+    /**
+     * Post body as sanitized HTML, served from the render cache
+     */
+    public PostHtmlService.PostHtml getPostHtml(Long id) {
+        if (!blogPostRepository.existsById(id))
+            throw new ResourceNotFoundException("Post not found with id " + id);
+
+        return postHtmlService.getHtml(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Post " + id + " has no content"));
+    }
+
+    /**
+     * Multi-get: posts in the order of the requested ids, resolved with one IN query
+     * (authors joined in) plus one query for their bodies
+     */
+    public BatchResult<BlogPost> getPostsByIds(List<Long> ids) {
+        BatchResult.requireValidIds(ids);
+
+        List<BlogPost> posts = blogPostRepository.findByIdIn(new LinkedHashSet<>(ids));
+        Map<Long, String> contents = postContentService.loadAll(posts.stream().map(BlogPost::getId).toList());
+        posts.forEach(post -> {
+            post.setContent(contents.get(post.getId()));
+            addUnflushedViews(post);
+        });
+        return BatchResult.of(ids, posts, BlogPost::getId, post -> post);
+    }
+
+    /**
+     * Most active posts (views and writes, decayed over time), served from the ranking's last snapshot
+     */
+    public List<TrendingPostDTO> getTrendingPosts(int limit) {
+        return trendingService.getTrending(limit);
+    }
+
+    /**
+     * Newest-first page of all posts, by page number or after a cursor
+     */
+    public ListPage<BlogPost> getPosts(Pagination.Spec spec) {
+        return spec.isCursorMode()
+                ? Pagination.toPage(spec, blogPostRepository.findAllByOrderByDateDescIdDesc(
+                        FeedCursor.decode(spec.cursor()), spec.limit()), post -> post, BlogService::cursorOf)
+                : Pagination.toPage(spec, blogPostRepository.findAllBy(spec.pageable(NEWEST_FIRST)),
+                        post -> post, BlogService::cursorOf);
+    }
+
+    /**
+     * Newest-first page of a category's posts, by page number or after a cursor
+     */
+    public ListPage<BlogPost> getPostsByCategory(Long categoryId, Pagination.Spec spec) {
+        if (!categoryCatalog.existsById(categoryId))
+            throw new ResourceNotFoundException("Category not found with id " + categoryId);
+
+        return spec.isCursorMode()
+                ? Pagination.toPage(spec, blogPostRepository.findByCategoriesIdOrderByDateDescIdDesc(
+                        categoryId, FeedCursor.decode(spec.cursor()), spec.limit()), post -> post, BlogService::cursorOf)
+                : Pagination.toPage(spec, blogPostRepository.findByCategoriesId(categoryId, spec.pageable(NEWEST_FIRST)),
+                        post -> post, BlogService::cursorOf);
+    }
+
+    /**
+     * Newest-first page of an author's posts, by page number or after a cursor
+     */
+    public ListPage<BlogPost> getPostsByAuthor(Long authorId, Pagination.Spec spec) {
         authorService.getAuthorById(authorId); // This will throw if not found
 
-        return blogPostRepository.findByAuthorId(authorId);
+        return spec.isCursorMode()
+                ? Pagination.toPage(spec, blogPostRepository.findByAuthorIdOrderByDateDescIdDesc(
+                        authorId, FeedCursor.decode(spec.cursor()), spec.limit()), post -> post, BlogService::cursorOf)
+                : Pagination.toPage(spec, blogPostRepository.findByAuthorId(authorId, spec.pageable(NEWEST_FIRST)),
+                        post -> post, BlogService::cursorOf);
+    }
+
+    /**
+     * Newest-first page of the posts whose title contains the keyword (case-insensitive)
+     */
+    public ListPage<BlogPost> searchPosts(String keyword, Pagination.Spec spec) {
+        if (keyword == null || keyword.trim().isEmpty())
+            throw new IllegalArgumentException("Search keyword cannot be null or empty");
+
+        String trimmed = keyword.trim();
+        return spec.isCursorMode()
+                ? Pagination.toPage(spec, blogPostRepository.findByTitleContainingIgnoreCaseOrderByDateDescIdDesc(
+                        trimmed, FeedCursor.decode(spec.cursor()), spec.limit()), post -> post, BlogService::cursorOf)
+                : Pagination.toPage(spec, blogPostRepository.findByTitleContainingIgnoreCase(trimmed, spec.pageable(NEWEST_FIRST)),
+                        post -> post, BlogService::cursorOf);
+    }
+
+    /**
+     * Newest-first page of a category's posts after the given cursor.
+     * Seeks on (date, id) instead of using an offset, so every page costs the same.
+     */
+    public FeedPage<PostSummaryDTO> getCategoryFeed(Long categoryId, String cursor, int size) {
+        if (!categoryCatalog.existsById(categoryId))
+            throw new ResourceNotFoundException("Category not found with id " + categoryId);
+
+        return toFeedPage(blogPostRepository.findByCategoriesIdOrderByDateDescIdDesc(
+                categoryId, FeedCursor.decode(cursor), feedLimit(size)));
+    }
+
+    /**
+     * Newest-first page of an author's posts after the given cursor
+     */
+    public FeedPage<PostSummaryDTO> getAuthorFeed(Long authorId, String cursor, int size) {
+        authorService.getAuthorById(authorId); // This will throw if not found
+
+        return toFeedPage(blogPostRepository.findByAuthorIdOrderByDateDescIdDesc(
+                authorId, FeedCursor.decode(cursor), feedLimit(size)));
+    }
+
+    /**
+     * Months that have posts, newest first, with their post counts
+     */
+    public List<ArchiveMonthDTO> getArchiveMonths() {
+        return postArchive.getMonths();
+    }
+
+    /**
+     * Newest-first page of the posts dated in one month, after the given cursor
+     */
+    public FeedPage<PostSummaryDTO> getArchiveFeed(int year, int month, String cursor, int size) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid archive month " + year + "/" + month);
+        }
+        Limit limit = feedLimit(size);
+        if (postArchive.isKnownEmpty(yearMonth))
+            return new FeedPage<>(List.of(), null);
+
+        return toFeedPage(blogPostRepository.findByDateBetweenOrderByDateDescIdDesc(
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), FeedCursor.decode(cursor), limit));
     }
 
     public List<BlogPost> searchPostsByTitle(String keyword) {
@@ -80,6 +280,67 @@ public class BlogService {
         return blogPostRepository.findAll(pageable);
     }
 
+    // ========== SPARSE FIELDSETS ==========
+    // Only the requested columns are read from the database (see BlogPostRepositoryCustom)
+
+    public Map<String, Object> getPostFieldsById(Long id, Set<String> fields) {
+        validateFields(fields);
+        Map<String, Object> post = blogPostRepository.findFieldsById(id, fields)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id " + id));
+        attachContent(List.of(post), fields);
+        return post;
+    }
+
+    /**
+     * Newest-first page of an author's posts with only the requested fields
+     */
+    public ListPage<Map<String, Object>> getPostFieldsByAuthor(Long authorId, Set<String> fields, Pagination.Spec spec) {
+        validateFields(fields);
+        // Validate author exists first
+        authorService.getAuthorById(authorId);
+
+        // The rows carry "date" for the cursor; it is dropped again unless it was asked for
+        boolean dateRequested = fields.stream().anyMatch(field -> "date".equals(field.trim()));
+        Function<Map<String, Object>, Map<String, Object>> requested = row -> {
+            if (dateRequested) {
+                return row;
+            }
+            Map<String, Object> copy = new LinkedHashMap<>(row);
+            copy.remove("date");
+            return copy;
+        };
+        Function<Map<String, Object>, String> cursorOf = row -> FeedCursor.encode((LocalDate) row.get("date"), (Long) row.get("id"));
+
+        ListPage<Map<String, Object>> posts = spec.isCursorMode()
+                ? Pagination.toPage(spec, blogPostRepository.findFieldsByAuthorId(
+                        authorId, fields, FeedCursor.decode(spec.cursor()), spec.limit()), requested, cursorOf)
+                : Pagination.toPage(spec, blogPostRepository.findFieldsByAuthorId(authorId, fields, spec.pageable(NEWEST_FIRST)),
+                        requested, cursorOf);
+        attachContent(posts.getItems(), fields);
+        return posts;
+    }
+
+    public Page<Map<String, Object>> getPaginatedPostFields(Pageable pageable, Set<String> fields) {
+        validateFields(fields);
+        Page<Map<String, Object>> posts = blogPostRepository.findAllFields(pageable, fields);
+        attachContent(posts.getContent(), fields);
+        return posts;
+    }
+
+    /**
+     * "content" is not a blogpost column: decode the bodies of the whole batch in one query
+     */
+    private void attachContent(List<Map<String, Object>> posts, Set<String> fields) {
+        boolean requested = fields.stream().anyMatch(field -> BlogPostRepositoryCustom.CONTENT_FIELD.equals(field.trim()));
+        if (!requested || posts.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = posts.stream().map(post -> (Long) post.get("id")).toList();
+        Map<Long, String> contents = postContentService.loadAll(ids);
+        posts.forEach(post -> post.put(BlogPostRepositoryCustom.CONTENT_FIELD, contents.get((Long) post.get("id"))));
+    }
+
     // ========== WRITE OPERATIONS ==========
 
     @Transactional
@@ -100,10 +361,24 @@ public class BlogService {
         // Validate categories
         if (blogPost.getCategories() != null && !blogPost.getCategories().isEmpty()) {
             List<Category> validatedCategories = validateAndGetCategories(blogPost.getCategories());
-            blogPost.setCategories(validatedCategories);
+            if (blogPost.getId() != null)
+                // A replaced post (PUT) keeps its managed set: only the join rows that differ are written
+                blogPost.replaceCategories(validatedCategories);
+            else
+                blogPost.setCategories(new LinkedHashSet<>(validatedCategories));
         }
 
-        return blogPostRepository.save(blogPost);
+        // Excerpt and reading stats are stored with the post so lists never load the body
+        PostStats.apply(blogPost, blogPost.getContent());
+
+        BlogPost savedPost = blogPostRepository.save(blogPost);
+        trendingService.recordWrite(savedPost.getId());
+        postChanged(savedPost);
+        archiveMonthChanged(savedPost.getDate());
+        if (postContentService.store(savedPost, blogPost.getContent()))
+            postHtmlService.renderInBackground(blogPost.getContent());
+        savedPost.setContent(blogPost.getContent());
+        return savedPost;
     }
 
     @Transactional
@@ -114,44 +389,75 @@ public class BlogService {
                     if (updatedPost.getTitle() != null && !updatedPost.getTitle().trim().isEmpty())
                         existingPost.setTitle(updatedPost.getTitle().trim());
 
-                    if (updatedPost.getContent() != null)
+                    if (updatedPost.getContent() != null) {
                         existingPost.setContent(updatedPost.getContent());
+                        PostStats.apply(existingPost, updatedPost.getContent());
+                        // Re-render only when the body actually changed
+                        if (postContentService.store(existingPost, updatedPost.getContent()))
+                            postHtmlService.renderInBackground(updatedPost.getContent());
+                    }
 
-                    if (updatedPost.getDate() != null)
+                    if (updatedPost.getDate() != null && !updatedPost.getDate().equals(existingPost.getDate())) {
+                        // The post leaves one archive month for another
+                        archiveMonthChanged(existingPost.getDate());
+                        archiveMonthChanged(updatedPost.getDate());
                         existingPost.setDate(updatedPost.getDate());
+                    }
 
                     // Update author if provided and valid
                     if (updatedPost.getAuthor() != null && updatedPost.getAuthor().getId() != null) {
                         Author author = authorService.getAuthorById(updatedPost.getAuthor().getId());
+                        // The previous author loses the post
+                        postChanged(existingPost);
                         existingPost.setAuthor(author);
                     }
 
                     // Update categories if provided
                     if (updatedPost.getCategories() != null) {
                         List<Category> validatedCategories = validateAndGetCategories(updatedPost.getCategories());
-                        existingPost.setCategories(validatedCategories);
+                        existingPost.replaceCategories(validatedCategories);
                     }
 
+                    trendingService.recordWrite(id);
+                    postChanged(existingPost);
                     return blogPostRepository.save(existingPost);
                 });
     }
 
+    /**
+     * Full update from a PUT body, fields left out are cleared (see BlogPostMapper.updateEntityFromDTO)
+     */
+    @Transactional
+    public BlogPost replacePost(Long id, UpdateBlogPostDTO update) {
+        BlogPost existingPost = getPostById(id);
+        // Announced before the mapper may move the post to another author and month, the new ones are announced by createPost
+        postChanged(existingPost);
+        archiveMonthChanged(existingPost.getDate());
+        blogPostMapper.updateEntityFromDTO(update, existingPost);
+        return createPost(existingPost);
+    }
+
     /**
      * Delete blog post
+     * Soft delete: the post disappears from every read right away, its row, join rows and
+     * stored body are removed later in small chunks by PostPurgeJob.
      */
     @Transactional
     public boolean deletePost(Long id) {
-        if (!blogPostRepository.existsById(id)) {
+        BlogPost post = blogPostRepository.findById(id).orElse(null);
+        if (post == null) {
             return false;
         }
 
         // Business logic: In the future:
-        // - Soft delete instead of hard delete
-        // - Archive the post
         // - Notify subscribers
         // - Update statistics
 
-        blogPostRepository.deleteById(id);
+        post.setDeletedAt(LocalDateTime.now());
+        blogPostRepository.save(post);
+        trendingService.forget(id);
+        postChanged(post);
+        archiveMonthChanged(post.getDate());
         return true;
     }
 
@@ -161,8 +467,11 @@ public class BlogService {
     public Optional<BlogPost> assignAuthor(Long postId, Long authorId) {
         return blogPostRepository.findById(postId)
                 .map(post -> {
+                    // The previous author loses the post
+                    postChanged(post);
                     Author author = authorService.getAuthorById(authorId);
                     post.setAuthor(author);
+                    postChanged(post);
                     return blogPostRepository.save(post);
                 });
     }
@@ -177,10 +486,11 @@ public class BlogService {
             Category category = categoryOpt.get();
 
             if (post.getCategories() == null)
-                post.setCategories(new ArrayList<>());
+                post.setCategories(new LinkedHashSet<>());
 
-            if (!post.getCategories().contains(category)) {
-                post.getCategories().add(category);
+            // Set semantics: only a category the post did not have yet is written
+            if (post.getCategories().add(category)) {
+                postChanged(post);
                 return Optional.of(blogPostRepository.save(post));
             }
         }
@@ -195,12 +505,91 @@ public class BlogService {
                         .map(category -> {
                             if (post.getCategories() != null) {
                                 post.getCategories().remove(category);
+                                postChanged(post);
                                 return blogPostRepository.save(post);
                             }
                             return post;
                         }));
     }
 
+    /**
+     * Attach a category to every selected post with a single INSERT ... SELECT.
+     * Posts that already have it are left alone; returns how many posts gained it.
+     */
+    @Transactional
+    public int addCategoryToPosts(Long categoryId, BulkCategoryRequest request) {
+        requireBulkSelection(categoryId, request);
+        bulkSelectionChanged(request);
+        return request.getAuthorId() != null
+                ? blogPostRepository.addCategoryToAuthorPosts(categoryId, request.getAuthorId())
+                : blogPostRepository.addCategoryToPosts(categoryId, new LinkedHashSet<>(request.getPostIds()));
+    }
+
+    /**
+     * Detach a category from every selected post with a single DELETE; returns how many posts lost it
+     */
+    @Transactional
+    public int removeCategoryFromPosts(Long categoryId, BulkCategoryRequest request) {
+        requireBulkSelection(categoryId, request);
+        bulkSelectionChanged(request);
+        return request.getAuthorId() != null
+                ? blogPostRepository.removeCategoryFromAuthorPosts(categoryId, request.getAuthorId())
+                : blogPostRepository.removeCategoryFromPosts(categoryId, new LinkedHashSet<>(request.getPostIds()));
+    }
+
+    // Announced after commit: the post itself and the author whose post list it is in
+    private void postChanged(BlogPost post) {
+        invalidationBus.publishAfterCommit(EntityType.POST, post.getId());
+        if (post.getAuthor() != null && post.getAuthor().getId() != null)
+            invalidationBus.publishAfterCommit(EntityType.AUTHOR, post.getAuthor().getId());
+    }
+
+    private void archiveMonthChanged(LocalDate date) {
+        if (date != null)
+            invalidationBus.publishAfterCommit(EntityType.ARCHIVE_MONTH, PostArchive.monthId(date));
+    }
+
+    // Bulk statements do not return the posts they touched: announce the selection
+    private void bulkSelectionChanged(BulkCategoryRequest request) {
+        if (request.getAuthorId() != null)
+            invalidationBus.publishAfterCommit(EntityType.AUTHOR, request.getAuthorId());
+        else {
+            Set<Long> postIds = new LinkedHashSet<>(request.getPostIds());
+            postIds.forEach(id -> invalidationBus.publishAfterCommit(EntityType.POST, id));
+            // Author profiles count posts per category
+            blogPostRepository.findAuthorIdsByIdIn(postIds).forEach(id -> invalidationBus.publishAfterCommit(EntityType.AUTHOR, id));
+        }
+    }
+
+    // The stored count lags by up to one flush interval; views counted since then are still in memory
+    private void addUnflushedViews(BlogPost post) {
+        post.setViewCount(post.getViewCount() + postViewCounter.unflushed(post.getId()));
+    }
+
+    // What a post read returns, detached from the persistence context: the author is shared, categories are left out
+    private static BlogPost detachedCopy(BlogPost post) {
+        BlogPost copy = new BlogPost(post.getId(), post.getTitle(), post.getContent(), post.getDate(), post.getAuthor(), null);
+        copy.setExcerpt(post.getExcerpt());
+        copy.setWordCount(post.getWordCount());
+        copy.setReadingTimeMinutes(post.getReadingTimeMinutes());
+        copy.setViewCount(post.getViewCount());
+        return copy;
+    }
+
+    private void requireBulkSelection(Long categoryId, BulkCategoryRequest request) {
+        boolean byIds = request.getPostIds() != null && !request.getPostIds().isEmpty();
+        boolean byAuthor = request.getAuthorId() != null;
+        if (byIds == byAuthor)
+            throw new IllegalArgumentException("Select posts either by postIds or by authorId");
+        if (byIds && request.getPostIds().size() > BulkCategoryRequest.MAX_POST_IDS)
+            throw new IllegalArgumentException("At most " + BulkCategoryRequest.MAX_POST_IDS + " post ids can be changed at once");
+        if (byIds && request.getPostIds().stream().anyMatch(Objects::isNull))
+            throw new IllegalArgumentException("Post ids must not be empty");
+
+        if (!categoryCatalog.existsById(categoryId))
+            throw new ResourceNotFoundException("Category not found with id " + categoryId);
+    }
+
     // ========== DTO OPERATIONS ==========
 
     /**
@@ -224,6 +613,27 @@ public class BlogService {
 
     // ========== UTILITY/VALIDATION METHODS ==========
 
+    private Limit feedLimit(int size) {
+        int maxSize = paginationProperties.getMaxPageSize();
+        if (size < 1 || size > maxSize)
+            throw new IllegalArgumentException("Feed size must be between 1 and " + maxSize);
+        return Limit.of(size);
+    }
+
+    private static String cursorOf(BlogPost post) {
+        return FeedCursor.encode(post.getDate(), post.getId());
+    }
+
+    private FeedPage<PostSummaryDTO> toFeedPage(Window<BlogPost> window) {
+        List<PostSummaryDTO> items = window.stream()
+                .map(blogPostMapper::toSummary)
+                .toList();
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? FeedCursor.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new FeedPage<>(items, nextCursor);
+    }
+
     /**
      * Validate post for creation
      */
@@ -241,26 +651,41 @@ public class BlogService {
         }
     }
 
+    /**
+     * Validate a sparse fieldset against the attributes the repository can project
+     */
+    private void validateFields(Set<String> fields) {
+        for (String field : fields) {
+            String name = field.trim();
+            if (!name.isEmpty() && !BlogPostRepositoryCustom.CONTENT_FIELD.equals(name) && !BlogPostRepositoryCustom.PROJECTABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "'. Allowed fields: "
+                        + BlogPostRepositoryCustom.PROJECTABLE_FIELDS + " and " + BlogPostRepositoryCustom.CONTENT_FIELD);
+            }
+        }
+    }
+
     /**
      * Validate and retrieve categories by their IDs
      */
-    private List<Category> validateAndGetCategories(List<Category> categories) {
+    // Checked against the category catalog, then attached as references: no SELECT per category
+    private List<Category> validateAndGetCategories(Collection<Category> categories) {
         List<Long> categoryIds = categories.stream()
                 .map(Category::getId)
                 .filter(Objects::nonNull)
+                .distinct()
                 .collect(Collectors.toList());
 
         if (categoryIds.isEmpty()) {
             throw new IllegalArgumentException("Invalid category IDs provided");
         }
 
-        List<Category> foundCategories = categoryRepository.findByIdIn(categoryIds);
-
-        if (foundCategories.size() != categoryIds.size()) {
+        if (categoryCatalog.findAllById(categoryIds).size() != categoryIds.size()) {
             throw new ResourceNotFoundException("One or more categories not found");
         }
 
-        return foundCategories;
+        return categoryIds.stream()
+                .map(categoryRepository::getReferenceById)
+                .toList();
     }
 
     /**
@@ -314,25 +739,24 @@ public class BlogService {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new EntityNotFoundException("Category not found with id: " + categoryId));
 
-        // Assign the category to the post
-        post.setCategories((List<Category>) category);
+        // Add the category to the post's existing ones (a single join row insert)
+        if (post.getCategories() == null)
+            post.setCategories(new LinkedHashSet<>());
+        post.getCategories().add(category);
+        postChanged(post);
 
         // Save and return the updated post
         return blogPostRepository.save(post);
     }
 
     /**
-     * Get all blog posts as DTOs (Data Transfer Objects)
-     * Converts entities to DTOs using mapper
+     * Page of post summaries, newest first, built from the precomputed excerpt and stats columns
      */
-    @Transactional(readOnly = true)
-    public List<BlogPostDTO> getAllPostsDTO() {
-        // Get all blog posts from database
-        List<BlogPost> allPosts = blogPostRepository.findAll();
-
-        // Convert each BlogPost entity to BlogPostDTO using your mapper
-        return allPosts.stream()
-                .map(blogPostMapper::toDTO) // Assumes you have a toDTO method in your mapper
-                .toList(); // Java 16+ syntax, use .collect(Collectors.toList()) for older versions
+    public ListPage<PostSummaryDTO> getPostSummaries(Pagination.Spec spec) {
+        return spec.isCursorMode()
+                ? Pagination.toPage(spec, blogPostRepository.findAllByOrderByDateDescIdDesc(
+                        FeedCursor.decode(spec.cursor()), spec.limit()), blogPostMapper::toSummary, BlogService::cursorOf)
+                : Pagination.toPage(spec, blogPostRepository.findAllBy(spec.pageable(NEWEST_FIRST)),
+                        blogPostMapper::toSummary, BlogService::cursorOf);
     }
 }
\ No newline at end of file
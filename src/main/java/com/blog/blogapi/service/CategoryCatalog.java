@@ -0,0 +1,212 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.CategoryDTO;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationListener;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * All categories in memory, as an immutable snapshot swapped in with one volatile write
+ * Reads are a volatile read plus an array lookup: ids sorted for binary search, names and
+ * descriptions in parallel arrays, and a lower-cased name index. A category write (here or,
+ * through the invalidation bus, on another instance) moves the generation on and the next
+ * read rebuilds the snapshot with one query.
+ *
+ * An id or name the snapshot does not know is checked against the database before being
+ * reported missing, so a category created moments ago elsewhere is never refused; searches
+ * and listings may lag such a write by one invalidation flush.
+ */
+@Component
+public class CategoryCatalog {
+
+    private final CategoryRepository categoryRepository;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final Timer rebuildTimer;
+
+    public CategoryCatalog(CategoryRepository categoryRepository, InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.categoryRepository = categoryRepository;
+        invalidationBus.subscribe(EntityType.CATEGORY, InvalidationListener.of(id -> invalidate(), this::invalidate));
+
+        this.rebuildTimer = Timer.builder("blog.categories.catalog.rebuild")
+                .description("Time to reload the in-memory category catalog")
+                .register(meterRegistry);
+        meterRegistry.gauge("blog.categories.catalog.size", this, catalog -> catalog.snapshot.ids.length);
+    }
+
+    /**
+     * Every category, by id
+     */
+    public List<CategoryDTO> findAll() {
+        Snapshot current = current();
+        List<CategoryDTO> categories = new ArrayList<>(current.ids.length);
+        for (int i = 0; i < current.ids.length; i++) {
+            categories.add(current.toDto(i));
+        }
+        return categories;
+    }
+
+    public Optional<CategoryDTO> findById(long id) {
+        Snapshot current = current();
+        int position = Arrays.binarySearch(current.ids, id);
+        if (position >= 0) {
+            return Optional.of(current.toDto(position));
+        }
+        return categoryRepository.findById(id).map(this::foundOutsideSnapshot);
+    }
+
+    /**
+     * The categories among ids that exist, in id order; unknown ids are left out
+     */
+    public List<CategoryDTO> findAllById(Collection<Long> ids) {
+        Snapshot current = current();
+        List<CategoryDTO> found = new ArrayList<>(ids.size());
+        List<Long> unknown = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            int position = Arrays.binarySearch(current.ids, id);
+            if (position >= 0) {
+                found.add(current.toDto(position));
+            } else {
+                unknown.add(id);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            categoryRepository.findByIdIn(unknown).forEach(category -> found.add(foundOutsideSnapshot(category)));
+        }
+        return found;
+    }
+
+    public boolean existsById(long id) {
+        if (Arrays.binarySearch(current().ids, id) >= 0) {
+            return true;
+        }
+        if (categoryRepository.existsById(id)) {
+            invalidate();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Case-insensitive exact match on the name
+     */
+    public boolean existsByName(String name) {
+        if (current().positionsByName.containsKey(name.toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+        if (categoryRepository.existsByNameIgnoreCase(name)) {
+            invalidate();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Categories whose name contains the fragment, ignoring case, by id
+     */
+    public List<CategoryDTO> searchByName(String fragment) {
+        String needle = fragment.toLowerCase(Locale.ROOT);
+        Snapshot current = current();
+        List<CategoryDTO> matches = new ArrayList<>();
+        for (int i = 0; i < current.ids.length; i++) {
+            if (current.lowerNames[i].contains(needle)) {
+                matches.add(current.toDto(i));
+            }
+        }
+        return matches;
+    }
+
+    public int count() {
+        return current().ids.length;
+    }
+
+    /**
+     * Rebuild on the next read
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current.generation == generation.get() ? current : rebuild();
+    }
+
+    // One rebuild at a time; a write landing while it loads leaves it outdated, so the next read rebuilds again
+    private synchronized Snapshot rebuild() {
+        long target = generation.get();
+        Snapshot current = snapshot;
+        if (current.generation == target) {
+            return current;
+        }
+        Snapshot rebuilt = rebuildTimer.record(() -> Snapshot.of(categoryRepository.findAll(Sort.by("id")), target));
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private CategoryDTO foundOutsideSnapshot(Category category) {
+        invalidate();
+        return new CategoryDTO(category.getId(), category.getName(), category.getDescription());
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new String[0], new String[0], Map.of(), -1);
+
+        final long[] ids;
+        final String[] names;
+        final String[] descriptions;
+        final String[] lowerNames;
+        final Map<String, Integer> positionsByName;
+        final long generation;
+
+        private Snapshot(long[] ids, String[] names, String[] descriptions, String[] lowerNames,
+                         Map<String, Integer> positionsByName, long generation) {
+            this.ids = ids;
+            this.names = names;
+            this.descriptions = descriptions;
+            this.lowerNames = lowerNames;
+            this.positionsByName = positionsByName;
+            this.generation = generation;
+        }
+
+        // categories must be sorted by id
+        static Snapshot of(List<Category> categories, long generation) {
+            int size = categories.size();
+            long[] ids = new long[size];
+            String[] names = new String[size];
+            String[] descriptions = new String[size];
+            String[] lowerNames = new String[size];
+            Map<String, Integer> positionsByName = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                Category category = categories.get(i);
+                ids[i] = category.getId();
+                names[i] = category.getName();
+                descriptions[i] = category.getDescription();
+                lowerNames[i] = category.getName().toLowerCase(Locale.ROOT);
+                positionsByName.put(lowerNames[i], i);
+            }
+            return new Snapshot(ids, names, descriptions, lowerNames, Map.copyOf(positionsByName), generation);
+        }
+
+        CategoryDTO toDto(int position) {
+            return new CategoryDTO(ids[position], names[position], descriptions[position]);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.blog.blogapi.service;
 
+import com.blog.blogapi.DTO.BatchResult;
 import com.blog.blogapi.DTO.CategoryDTO;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
 import com.blog.blogapi.mapper.CategoryMapper;
 import com.blog.blogapi.model.Category;
 import com.blog.blogapi.repository.CategoryRepository;
@@ -11,37 +14,48 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryCatalog categoryCatalog;
+    private final InvalidationBus invalidationBus;
 
     @Autowired
-    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper,
+                           CategoryCatalog categoryCatalog, InvalidationBus invalidationBus) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.categoryCatalog = categoryCatalog;
+        this.invalidationBus = invalidationBus;
     }
 
+    // Reads below are served from the in-memory CategoryCatalog, writes go to the database
+
     public List<CategoryDTO> getAllCategories() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(categoryMapper::entityToDto)
-                .collect(Collectors.toList());
+        return categoryCatalog.findAll();
+    }
+
+    /**
+     * Multi-get: categories in the order of the requested ids
+     */
+    public BatchResult<CategoryDTO> getCategoriesByIds(List<Long> ids) {
+        BatchResult.requireValidIds(ids);
+        return BatchResult.of(ids, categoryCatalog.findAllById(ids), CategoryDTO::getId, category -> category);
     }
 
     public CategoryDTO addCategory(CategoryDTO dto) {
         Category category = categoryMapper.dtoToEntity(dto);
         Category saved = categoryRepository.save(category);
+        invalidationBus.publishAfterCommit(EntityType.CATEGORY, saved.getId());
         return categoryMapper.entityToDto(saved);
     }
 
     public CategoryDTO getCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
+        return categoryCatalog.findById(id)
                 .orElseThrow(() -> new RuntimeException("Category not found with id: " + id));
-        return categoryMapper.entityToDto(category);
     }
 
     public CategoryDTO updateCategory(Long id, CategoryDTO dto) {
@@ -52,6 +66,7 @@ public class CategoryService {
         existing.setDescription(dto.getDescription());
 
         Category updated = categoryRepository.save(existing);
+        invalidationBus.publishAfterCommit(EntityType.CATEGORY, id);
         return categoryMapper.entityToDto(updated);
     }
 
@@ -60,39 +75,33 @@ public class CategoryService {
             throw new RuntimeException("Category not found with id: " + id);
         }
         categoryRepository.deleteById(id);
+        invalidationBus.publishAfterCommit(EntityType.CATEGORY, id);
     }
 
     /**
      * Search categories by name containing keyword (case-insensitive)
      * Returns categories as DTOs
      */
-    @Transactional(readOnly = true)
     public List<CategoryDTO> searchCategoriesByName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Search name cannot be null or empty");
         }
 
         // Find categories containing the name (case-insensitive)
-        List<Category> categories = categoryRepository.findByNameContainingIgnoreCase(name.trim());
-
-        // Convert to DTOs using your mapper
-        return categories.stream()
-                .map(categoryMapper::toDTO) // Assumes you have a toDTO method
-                .toList();
+        return categoryCatalog.searchByName(name.trim());
     }
 
     /**
      * Check if a category with the given name already exists (case-insensitive)
      * Useful for preventing duplicate category names
      */
-    @Transactional(readOnly = true)
     public boolean categoryExistsByName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return false; // Consider empty/null names as non-existent
         }
 
         // Check if category exists by name (case-insensitive)
-        return categoryRepository.existsByNameIgnoreCase(name.trim());
+        return categoryCatalog.existsByName(name.trim());
     }
 
     /**
@@ -123,8 +132,7 @@ public class CategoryService {
      * Get total count of all categories
      * Useful for pagination and statistics
      */
-    @Transactional(readOnly = true)
     public long getCategoriesCount() {
-        return categoryRepository.count(); // Built-in JPA method
+        return categoryCatalog.count();
     }
 }
@@ -0,0 +1,92 @@
+package com.blog.blogapi.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate with an optional preset dictionary
+ * A dictionary lets even short posts compress well, because phrases common to the
+ * whole corpus can be referenced instead of being spelled out in every body.
+ */
+final class ContentCodec {
+
+    static final String DEFLATE = "deflate";
+    static final String NONE = "none";
+
+    private ContentCodec() {}
+
+    /**
+     * Hex SHA-256 of the text, identifies a body independently of how it is stored
+     */
+    static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Compressed bytes, or null when compression would not make the payload smaller
+     */
+    static byte[] compress(String text, byte[] dictionary, int level) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+
+        Deflater deflater = new Deflater(level);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+                if (out.size() >= raw.length) {
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static String decompress(byte[] data, int originalLength, byte[] dictionary) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] raw = new byte[originalLength];
+            int offset = 0;
+            while (!inflater.finished()) {
+                int read = inflater.inflate(raw, offset, raw.length - offset);
+                offset += read;
+                if (read == 0) {
+                    if (inflater.needsDictionary()) {
+                        if (dictionary == null) {
+                            throw new IllegalStateException("Content was compressed with a dictionary that is not available");
+                        }
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.needsInput() || offset == raw.length) {
+                        break;
+                    }
+                }
+            }
+            return new String(raw, 0, offset, StandardCharsets.UTF_8);
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt post content", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.blog.blogapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a Deflate preset dictionary from a sample of post bodies
+ * Word n-grams (1 to 3 words) that repeat across the sample are scored by the bytes
+ * they would save, the best ones are kept up to the size limit and the most valuable
+ * are placed last, since Deflate encodes short back-references more cheaply.
+ */
+final class ContentDictionaryTrainer {
+
+    private static final int MIN_GRAM_LENGTH = 4;
+    private static final int MAX_GRAM_LENGTH = 64;
+    private static final int MAX_WORDS = 3;
+    // Keeps the counting map bounded for large samples
+    private static final int MAX_CANDIDATES = 200_000;
+
+    private ContentDictionaryTrainer() {}
+
+    static byte[] train(List<String> samples, int maxBytes) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String sample : samples) {
+            String[] words = sample.split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                StringBuilder gram = new StringBuilder();
+                for (int n = 0; n < MAX_WORDS && i + n < words.length; n++) {
+                    if (n > 0) {
+                        gram.append(' ');
+                    }
+                    gram.append(words[i + n]);
+                    if (gram.length() > MAX_GRAM_LENGTH) {
+                        break;
+                    }
+                    if (gram.length() >= MIN_GRAM_LENGTH
+                            && (counts.size() < MAX_CANDIDATES || counts.containsKey(gram.toString()))) {
+                        counts.merge(gram.toString(), 1, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        List<Map.Entry<String, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > 1) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort((a, b) -> Long.compare(score(b), score(a)));
+
+        List<String> selected = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<String, Integer> candidate : candidates) {
+            int length = candidate.getKey().getBytes(StandardCharsets.UTF_8).length + 1;
+            if (size + length > maxBytes) {
+                continue;
+            }
+            selected.add(candidate.getKey());
+            size += length;
+        }
+
+        // Highest scoring strings closest to the data
+        Collections.reverse(selected);
+        StringBuilder dictionary = new StringBuilder(size);
+        for (String gram : selected) {
+            dictionary.append(gram).append(' ');
+        }
+        return dictionary.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long score(Map.Entry<String, Integer> entry) {
+        return (long) (entry.getValue() - 1) * entry.getKey().length();
+    }
+}
@@ -0,0 +1,74 @@
+package com.blog.blogapi.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque cursors for the (date, id) keyset of post feeds and the id keyset of author lists
+ * Clients only pass it back; encoding the keys keeps them free to change later.
+ */
+final class FeedCursor {
+
+    private FeedCursor() {}
+
+    static String encode(ScrollPosition position) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        return encode((LocalDate) keys.get("date"), (Long) keys.get("id"));
+    }
+
+    /**
+     * Cursor pointing after the post with this date and id
+     */
+    static String encode(LocalDate date, long id) {
+        String raw = date + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Position after the cursor, or the first page for a null/blank cursor
+     */
+    static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('_');
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("date", LocalDate.parse(raw.substring(0, separator)));
+            keys.put("id", Long.parseLong(raw.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor '" + cursor + "'");
+        }
+    }
+
+    /**
+     * Cursor pointing after the row with this id, for lists ordered by id alone
+     */
+    static String encodeId(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Position after an id cursor, or the first page for a null/blank cursor
+     */
+    static ScrollPosition decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return ScrollPosition.forward(Map.of("id", Long.parseLong(raw)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor '" + cursor + "'");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.model.BlogPost;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Moves bodies still stored inline in blogpost.content (schemas created before content
+ * got its own table) into compressed storage, in small chunks after startup.
+ * Does nothing once the column is empty or when it does not exist.
+ */
+@Component
+public class LegacyContentMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyContentMigration.class);
+
+    // Runs before other startup jobs that read post bodies
+    static final int ORDER = 0;
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostContentService postContentService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public LegacyContentMigration(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  PostContentService postContentService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postContentService = postContentService;
+    }
+
+    @Order(ORDER)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!hasInlineContentColumn()) {
+            return;
+        }
+
+        int total = 0;
+        Integer moved;
+        do {
+            moved = transactionTemplate.execute(status -> migrateChunk());
+            total += moved != null ? moved : 0;
+        } while (moved != null && moved > 0);
+
+        if (total > 0) {
+            log.info("Moved {} inline post bodies to compressed storage", total);
+        }
+    }
+
+    private int migrateChunk() {
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, content FROM blogpost WHERE content IS NOT NULL ORDER BY id LIMIT " + CHUNK_SIZE,
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)});
+
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            postContentService.store(entityManager.getReference(BlogPost.class, id), (String) row[1]);
+            jdbcTemplate.update("UPDATE blogpost SET content = NULL WHERE id = ?", id);
+        }
+        return rows.size();
+    }
+
+    private boolean hasInlineContentColumn() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[]{"blogpost", "BLOGPOST"}) {
+                for (String column : new String[]{"content", "CONTENT"}) {
+                    try (ResultSet columns = metaData.getColumns(null, null, table, column)) {
+                        if (columns.next()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
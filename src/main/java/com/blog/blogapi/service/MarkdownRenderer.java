@@ -0,0 +1,31 @@
+package com.blog.blogapi.service;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+
+/**
+ * Markdown to HTML that is safe to embed as-is
+ * Raw HTML in the source is escaped rather than passed through, and link/image URLs
+ * with scripting protocols (javascript:, data:, ...) are dropped.
+ * Parser and renderer are immutable and thread-safe, so one instance serves every render.
+ */
+final class MarkdownRenderer {
+
+    private static final Parser PARSER = Parser.builder().build();
+
+    private static final HtmlRenderer RENDERER = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .attributeProviderFactory(context -> (node, tagName, attributes) -> {
+                if ("a".equals(tagName)) {
+                    attributes.put("rel", "nofollow noopener");
+                }
+            })
+            .build();
+
+    private MarkdownRenderer() {}
+
+    static String render(String markdown) {
+        return RENDERER.render(PARSER.parse(markdown));
+    }
+}
@@ -0,0 +1,91 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.ListPage;
+import com.blog.blogapi.config.PaginationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page requests of the list endpoints, checked against blog.pagination
+ * Offset mode reads a Slice (one row more than the page, never a count query) and stops at
+ * max-offset; cursor mode seeks past the last key of the previous page, so deep pages cost
+ * the same as the first. Pages never hold more than max-page-size items.
+ */
+@Component
+public class Pagination {
+
+    private final PaginationProperties properties;
+
+    public Pagination(PaginationProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * A checked page request; cursor mode when a cursor was passed (blank for the first page)
+     */
+    public Spec resolve(Integer page, Integer size, String cursor) {
+        int pageSize = size != null ? size : properties.getDefaultPageSize();
+        if (pageSize < 1 || pageSize > properties.getMaxPageSize())
+            throw new IllegalArgumentException("Page size must be between 1 and " + properties.getMaxPageSize());
+        if (cursor != null) {
+            if (page != null)
+                throw new IllegalArgumentException("Pass either page or cursor, not both");
+            return new Spec(null, pageSize, cursor);
+        }
+
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0)
+            throw new IllegalArgumentException("Page must not be negative");
+        if ((long) pageNumber * pageSize > properties.getMaxOffset())
+            throw new IllegalArgumentException("Offset paging stops after " + properties.getMaxOffset() + " items, continue with the cursor");
+        return new Spec(pageNumber, pageSize, null);
+    }
+
+    /**
+     * A checked offset-only page request, for the endpoints that still return a Page with totals
+     */
+    public Pageable pageable(Integer page, Integer size, Sort sort) {
+        return resolve(page, size, null).pageable(sort);
+    }
+
+    /**
+     * Page number and size (offset mode), or cursor and size (cursor mode)
+     */
+    public record Spec(Integer page, int size, String cursor) {
+
+        public boolean isCursorMode() {
+            return page == null;
+        }
+
+        Pageable pageable(Sort sort) {
+            return PageRequest.of(page, size, sort);
+        }
+
+        Limit limit() {
+            return Limit.of(size);
+        }
+    }
+
+    static <E, T> ListPage<T> toPage(Spec spec, Slice<E> slice, Function<? super E, ? extends T> mapper, Function<? super E, String> cursorOf) {
+        return toPage(spec, slice.getContent(), slice.hasNext(), mapper, cursorOf);
+    }
+
+    static <E, T> ListPage<T> toPage(Spec spec, Window<E> window, Function<? super E, ? extends T> mapper, Function<? super E, String> cursorOf) {
+        return toPage(spec, window.getContent(), window.hasNext(), mapper, cursorOf);
+    }
+
+    private static <E, T> ListPage<T> toPage(Spec spec, List<E> content, boolean hasNext,
+                                             Function<? super E, ? extends T> mapper, Function<? super E, String> cursorOf) {
+        List<T> items = content.stream().<T>map(mapper).toList();
+        String nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new ListPage<>(items, spec.page(), spec.size(), nextCursor != null, nextCursor);
+    }
+}
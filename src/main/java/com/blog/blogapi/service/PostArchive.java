@@ -0,0 +1,119 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.ArchiveMonthDTO;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationListener;
+import com.blog.blogapi.repository.BlogPostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Post counts per calendar month for the archive
+ * Months before the current one are closed: their counts come from one GROUP BY over the
+ * date index and are kept until the month rolls over. Only the current month (and posts
+ * dated after it) is counted per request. A write that changes a closed month (a back-dated
+ * post, a deletion, a date change) announces the month on the invalidation bus, which moves
+ * the generation on so the next read reloads the closed counts.
+ */
+@Component
+public class PostArchive {
+
+    private static final Comparator<ArchiveMonthDTO> NEWEST_FIRST = Comparator
+            .comparingInt(ArchiveMonthDTO::getYear)
+            .thenComparingInt(ArchiveMonthDTO::getMonth)
+            .reversed();
+
+    private final BlogPostRepository blogPostRepository;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile ClosedMonths closed;
+    private final Timer reloadTimer;
+
+    @Autowired
+    public PostArchive(BlogPostRepository blogPostRepository, InvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this(blogPostRepository, invalidationBus, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    PostArchive(BlogPostRepository blogPostRepository, InvalidationBus invalidationBus, MeterRegistry meterRegistry, Clock clock) {
+        this.blogPostRepository = blogPostRepository;
+        this.clock = clock;
+        invalidationBus.subscribe(EntityType.ARCHIVE_MONTH, InvalidationListener.of(this::monthChanged, generation::incrementAndGet));
+
+        this.reloadTimer = Timer.builder("blog.archive.closed.reload")
+                .description("Time to recount the posts of the closed archive months")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bus id of the month a post date falls in
+     */
+    public static long monthId(LocalDate date) {
+        return date.getYear() * 100L + date.getMonthValue();
+    }
+
+    /**
+     * Every month with posts, newest first. Closed months are shared between callers, do not modify them.
+     */
+    public List<ArchiveMonthDTO> getMonths() {
+        YearMonth current = YearMonth.now(clock);
+        List<ArchiveMonthDTO> months = new ArrayList<>(blogPostRepository.countByMonthFrom(current.atDay(1)));
+        months.sort(NEWEST_FIRST);
+        months.addAll(closedMonths(current).months);
+        return months;
+    }
+
+    /**
+     * Whether a month certainly has no posts, answered from memory for closed months
+     */
+    public boolean isKnownEmpty(YearMonth month) {
+        YearMonth current = YearMonth.now(clock);
+        return month.isBefore(current) && !closedMonths(current).counts.containsKey(month);
+    }
+
+    // Changes to the current or a later month need nothing, those are counted per request
+    private void monthChanged(long monthId) {
+        if (monthId < monthId(LocalDate.now(clock))) {
+            generation.incrementAndGet();
+        }
+    }
+
+    private ClosedMonths closedMonths(YearMonth current) {
+        ClosedMonths loaded = closed;
+        if (loaded != null && loaded.boundary.equals(current) && loaded.generation == generation.get()) {
+            return loaded;
+        }
+        return reload(current);
+    }
+
+    // One reload at a time; a write landing while it runs leaves it outdated, so the next read reloads again
+    private synchronized ClosedMonths reload(YearMonth current) {
+        long target = generation.get();
+        ClosedMonths loaded = closed;
+        if (loaded != null && loaded.boundary.equals(current) && loaded.generation == target) {
+            return loaded;
+        }
+        List<ArchiveMonthDTO> months = reloadTimer.record(() -> new ArrayList<>(blogPostRepository.countByMonthBefore(current.atDay(1))));
+        months.sort(NEWEST_FIRST);
+        Map<YearMonth, Long> counts = new HashMap<>();
+        months.forEach(month -> counts.put(YearMonth.of(month.getYear(), month.getMonth()), month.getPostCount()));
+        ClosedMonths reloaded = new ClosedMonths(current, target, List.copyOf(months), Map.copyOf(counts));
+        closed = reloaded;
+        return reloaded;
+    }
+
+    // Counts of every month before boundary, as of a generation
+    private record ClosedMonths(YearMonth boundary, long generation, List<ArchiveMonthDTO> months, Map<YearMonth, Long> counts) {}
+}
@@ -0,0 +1,194 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.ContentStorageProperties;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.BlogPostContent;
+import com.blog.blogapi.model.ContentDictionary;
+import com.blog.blogapi.repository.BlogPostContentRepository;
+import com.blog.blogapi.repository.ContentDictionaryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores post bodies compressed in their own table and decodes them on demand
+ * Only single-post reads (and explicit ?fields=content requests) pay for loading
+ * and inflating the body; lists and searches never touch it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PostContentService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostContentService.class);
+
+    private final BlogPostContentRepository contentRepository;
+    private final ContentDictionaryRepository dictionaryRepository;
+    private final ContentStorageProperties properties;
+
+    private final Map<Long, byte[]> dictionaries = new ConcurrentHashMap<>();
+    private volatile ContentDictionary currentDictionary;
+
+    private final DistributionSummary compressionRatio;
+    private final DistributionSummary storedBytes;
+    private final Timer decodeTimer;
+
+    public PostContentService(BlogPostContentRepository contentRepository,
+                              ContentDictionaryRepository dictionaryRepository,
+                              ContentStorageProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.contentRepository = contentRepository;
+        this.dictionaryRepository = dictionaryRepository;
+        this.properties = properties;
+
+        this.compressionRatio = DistributionSummary.builder("blog.content.compression.ratio")
+                .description("Original size divided by stored size of post bodies")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+        this.storedBytes = DistributionSummary.builder("blog.content.stored.bytes")
+                .description("Stored (compressed) size of post bodies")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.decodeTimer = Timer.builder("blog.content.decode")
+                .description("Time to decode a stored post body")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Compress and store the body of a saved post (insert or replace)
+     * @return true when the body changed, false when it was already stored as is
+     */
+    @Transactional
+    public boolean store(BlogPost post, String content) {
+        if (content == null) {
+            return false;
+        }
+
+        String hash = ContentCodec.hash(content);
+        BlogPostContent entity = contentRepository.findById(post.getId()).orElseGet(BlogPostContent::new);
+        if (hash.equals(entity.getContentHash())) {
+            return false;
+        }
+
+        entity.setPost(post);
+        entity.setContentHash(hash);
+        encode(entity, content);
+        contentRepository.save(entity);
+        return true;
+    }
+
+    /**
+     * SHA-256 of a post's stored body, without reading the body
+     */
+    public Optional<String> findContentHash(Long postId) {
+        return contentRepository.findContentHashByPostId(postId);
+    }
+
+    public String load(Long postId) {
+        return contentRepository.findById(postId)
+                .map(this::decode)
+                .orElse(null);
+    }
+
+    /**
+     * Bodies for several posts in one query, keyed by post id (posts without a body are absent)
+     */
+    public Map<Long, String> loadAll(Collection<Long> postIds) {
+        Map<Long, String> contents = new HashMap<>();
+        for (BlogPostContent entity : contentRepository.findByPostIdIn(postIds)) {
+            contents.put(entity.getPostId(), decode(entity));
+        }
+        return contents;
+    }
+
+    /**
+     * Retrain the compression dictionary on the most recent posts.
+     * Existing rows keep the dictionary they were written with; only new writes use the new one.
+     */
+    @Transactional
+    @Scheduled(cron = "${blog.content.dictionary-retrain-cron:0 0 3 * * SUN}")
+    public void retrainDictionary() {
+        List<BlogPostContent> sample = contentRepository.findByOrderByPostIdDesc(
+                PageRequest.of(0, properties.getDictionarySampleSize()));
+        if (sample.size() < properties.getDictionaryMinSamples()) {
+            log.debug("Skipping dictionary training, only {} posts available", sample.size());
+            return;
+        }
+
+        List<String> texts = sample.stream().map(this::decode).toList();
+        byte[] data = ContentDictionaryTrainer.train(texts, properties.getDictionaryMaxBytes());
+        ContentDictionary dictionary = dictionaryRepository.save(new ContentDictionary(data, texts.size()));
+
+        dictionaries.put(dictionary.getId(), data);
+        currentDictionary = dictionary;
+        log.info("Trained content dictionary {} ({} bytes) on {} posts", dictionary.getId(), data.length, texts.size());
+    }
+
+    private void encode(BlogPostContent entity, String content) {
+        ContentDictionary dictionary = currentDictionary();
+        byte[] dictionaryData = dictionary != null ? dictionary.getData() : null;
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = ContentCodec.compress(content, dictionaryData, properties.getCompressionLevel());
+
+        if (compressed != null) {
+            entity.setCodec(ContentCodec.DEFLATE);
+            entity.setDictionaryId(dictionary != null ? dictionary.getId() : null);
+            entity.setData(compressed);
+        } else {
+            entity.setCodec(ContentCodec.NONE);
+            entity.setDictionaryId(null);
+            entity.setData(raw);
+        }
+        entity.setOriginalLength(raw.length);
+
+        storedBytes.record(entity.getData().length);
+        if (entity.getData().length > 0) {
+            compressionRatio.record((double) raw.length / entity.getData().length);
+        }
+    }
+
+    private String decode(BlogPostContent entity) {
+        return decodeTimer.record(() -> {
+            if (ContentCodec.NONE.equals(entity.getCodec())) {
+                return new String(entity.getData(), StandardCharsets.UTF_8);
+            }
+            return ContentCodec.decompress(entity.getData(), entity.getOriginalLength(), dictionary(entity.getDictionaryId()));
+        });
+    }
+
+    private ContentDictionary currentDictionary() {
+        ContentDictionary dictionary = currentDictionary;
+        if (dictionary == null) {
+            dictionary = dictionaryRepository.findTopByOrderByIdDesc().orElse(null);
+            if (dictionary != null) {
+                dictionaries.put(dictionary.getId(), dictionary.getData());
+                currentDictionary = dictionary;
+            }
+        }
+        return dictionary;
+    }
+
+    private byte[] dictionary(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return dictionaries.computeIfAbsent(id, key -> dictionaryRepository.findById(key)
+                .map(ContentDictionary::getData)
+                .orElse(null));
+    }
+}
@@ -0,0 +1,177 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.ContentStorageProperties;
+import com.blog.blogapi.model.RenderedHtml;
+import com.blog.blogapi.repository.RenderedHtmlRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves post bodies as sanitized HTML, rendered once per distinct body
+ * Rendered documents are stored keyed by the SHA-256 of their Markdown source and
+ * fronted by an in-memory LRU. Writes queue a background render only when the hash
+ * changes; reads that beat the background job (or hit an old post) render inline.
+ */
+@Service
+public class PostHtmlService {
+
+    private static final Logger log = LoggerFactory.getLogger(PostHtmlService.class);
+
+    private final PostContentService postContentService;
+    private final RenderedHtmlRepository renderedHtmlRepository;
+    private final TransactionTemplate writeTransaction;
+    private final Map<String, String> cache;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer renderTimer;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public PostHtmlService(PostContentService postContentService,
+                           RenderedHtmlRepository renderedHtmlRepository,
+                           ContentStorageProperties properties,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.postContentService = postContentService;
+        this.renderedHtmlRepository = renderedHtmlRepository;
+
+        // Inline renders happen inside read-only request transactions, store them in their own
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int cacheSize = properties.getHtmlCacheSize();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        });
+
+        // A dropped render is not lost, the next read of the post renders it inline
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "post-html-render");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        this.renderTimer = Timer.builder("blog.content.html.render")
+                .description("Time to render a post body from Markdown to HTML")
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+        this.cacheHits = Counter.builder("blog.content.html.cache")
+                .tag("result", "hit")
+                .description("Rendered HTML lookups served from memory")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("blog.content.html.cache")
+                .tag("result", "miss")
+                .description("Rendered HTML lookups that went to the database or rendered")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rendered body of a post, empty when the post has no content
+     */
+    public Optional<PostHtml> getHtml(Long postId) {
+        String hash = postContentService.findContentHash(postId).orElse(null);
+        if (hash != null) {
+            String html = cache.get(hash);
+            if (html != null) {
+                cacheHits.increment();
+                return Optional.of(new PostHtml(hash, html));
+            }
+            cacheMisses.increment();
+
+            Optional<RenderedHtml> stored = renderedHtmlRepository.findById(hash);
+            if (stored.isPresent()) {
+                cache.put(hash, stored.get().getHtml());
+                return Optional.of(new PostHtml(hash, stored.get().getHtml()));
+            }
+        } else {
+            cacheMisses.increment();
+        }
+
+        String content = postContentService.load(postId);
+        if (content == null) {
+            return Optional.empty();
+        }
+        return Optional.of(render(ContentCodec.hash(content), content));
+    }
+
+    /**
+     * Queue a render of a new or changed body, run once the surrounding transaction commits
+     */
+    public void renderInBackground(String content) {
+        if (content == null) {
+            return;
+        }
+        String hash = ContentCodec.hash(content);
+        if (cache.containsKey(hash)) {
+            return;
+        }
+
+        Runnable task = () -> executor.execute(() -> {
+            try {
+                if (!cache.containsKey(hash) && !renderedHtmlRepository.existsById(hash)) {
+                    render(hash, content);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Background render of content {} failed", hash, e);
+            }
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private PostHtml render(String hash, String content) {
+        String html = renderTimer.record(() -> MarkdownRenderer.render(content));
+        try {
+            writeTransaction.executeWithoutResult(status -> renderedHtmlRepository.save(new RenderedHtml(hash, html)));
+        } catch (DataIntegrityViolationException e) {
+            // Same body rendered concurrently, the other copy is identical
+            log.debug("Rendered HTML for content {} already stored", hash);
+        }
+        cache.put(hash, html);
+        return new PostHtml(hash, html);
+    }
+
+    /**
+     * Rendered HTML together with the hash of the Markdown it came from (usable as an ETag)
+     */
+    public record PostHtml(String contentHash, String html) {}
+}
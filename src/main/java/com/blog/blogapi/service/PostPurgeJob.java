@@ -0,0 +1,121 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.PurgeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Removes soft-deleted posts for good once they are older than blog.purge.retention-hours
+ * Works oldest deletion first, blog.purge.chunk-size posts per transaction (join rows, stored
+ * body, then the posts, each as one batched statement), and pauses blog.purge.pause-ms after
+ * every chunk. A mass delete therefore never holds many row locks at once nor ships one huge
+ * transaction to the replicas. A run stops after max-chunks-per-run, the next run continues.
+ */
+@Component
+public class PostPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PostPurgeJob.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PurgeProperties properties;
+    private final Counter purged;
+
+    public PostPurgeJob(JdbcTemplate jdbcTemplate,
+                        TransactionTemplate transactionTemplate,
+                        PurgeProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.purged = Counter.builder("blog.posts.purged")
+                .description("Soft-deleted posts removed for good")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.purge.interval-ms:60000}")
+    public void scheduledPurge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Purging deleted posts failed, retrying with the next run", e);
+        }
+    }
+
+    /**
+     * Remove posts deleted before the retention cutoff; returns the number removed
+     */
+    public synchronized int purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(properties.getRetentionHours()));
+        int chunkSize = properties.getChunkSize();
+
+        int total = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunksPerRun(); chunk++) {
+            Integer removed = transactionTemplate.execute(status -> purgeChunk(cutoff, chunkSize));
+            int count = removed != null ? removed : 0;
+            total += count;
+            purged.increment(count);
+            if (count < chunkSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Purged {} deleted posts", total);
+        }
+        return total;
+    }
+
+    private int purgeChunk(Timestamp cutoff, int chunkSize) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM blogpost WHERE deleted_at < ? ORDER BY deleted_at, id LIMIT ?",
+                Long.class, cutoff, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = ids.stream().map(id -> new Object[]{id}).toList();
+        jdbcTemplate.batchUpdate("DELETE FROM blogpost_category WHERE blogpost_id = ?", rows);
+        jdbcTemplate.batchUpdate("DELETE FROM blogpost_content WHERE post_id = ?", rows);
+        // Never a live post, whatever the id list says
+        int[] deleted = jdbcTemplate.batchUpdate("DELETE FROM blogpost WHERE id = ? AND deleted_at IS NOT NULL", rows);
+
+        int count = 0;
+        for (int rowCount : deleted) {
+            // Drivers may report a batched statement as SUCCESS_NO_INFO (-2)
+            count += rowCount == Statement.SUCCESS_NO_INFO ? 1 : rowCount;
+        }
+        return count;
+    }
+
+    // Throttle between chunks; false when interrupted (shutdown)
+    private boolean pause() {
+        if (properties.getPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
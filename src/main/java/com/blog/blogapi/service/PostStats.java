@@ -0,0 +1,75 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.model.BlogPost;
+
+import java.util.regex.Pattern;
+
+/**
+ * Excerpt, word count and reading time derived from a Markdown body
+ * Computed once when a post is written (or by the backfill) and stored on the post,
+ * so list views can show them without loading the content.
+ */
+final class PostStats {
+
+    static final int EXCERPT_LENGTH = 280;
+    static final int WORDS_PER_MINUTE = 200;
+
+    private static final Pattern CODE_FENCE = Pattern.compile("(?s)```.*?```");
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^]]*)]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^]]*)]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern LINE_MARKUP = Pattern.compile("(?m)^\\s{0,3}(#{1,6}\\s+|>\\s?|[-*+]\\s+|\\d+\\.\\s+)");
+    private static final Pattern INLINE_MARKUP = Pattern.compile("[*_`~]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private PostStats() {}
+
+    static void apply(BlogPost post, String content) {
+        String text = plainText(content);
+        int words = wordCount(text);
+        post.setExcerpt(excerpt(text));
+        post.setWordCount(words);
+        post.setReadingTimeMinutes(readingTimeMinutes(words));
+    }
+
+    /**
+     * Markdown reduced to the words a reader sees, on a single line
+     */
+    static String plainText(String markdown) {
+        if (markdown == null) {
+            return "";
+        }
+        String text = CODE_FENCE.matcher(markdown).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll("$1");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = LINE_MARKUP.matcher(text).replaceAll("");
+        text = INLINE_MARKUP.matcher(text).replaceAll("");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    /**
+     * First EXCERPT_LENGTH characters of the text, cut at a word boundary, or null for an empty body
+     */
+    static String excerpt(String text) {
+        if (text.isEmpty()) {
+            return null;
+        }
+        if (text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        int end = text.lastIndexOf(' ', EXCERPT_LENGTH - 1);
+        if (end <= 0) {
+            end = EXCERPT_LENGTH - 1;
+        }
+        return text.substring(0, end) + "…";
+    }
+
+    static int wordCount(String text) {
+        return text.isEmpty() ? 0 : WHITESPACE.split(text).length;
+    }
+
+    static int readingTimeMinutes(int words) {
+        return words == 0 ? 0 : Math.max(1, (words + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+    }
+}
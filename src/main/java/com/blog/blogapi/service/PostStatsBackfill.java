@@ -0,0 +1,106 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.ContentStorageProperties;
+import com.blog.blogapi.model.BlogPost;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fills excerpt, word_count and reading_time_minutes for posts written before they
+ * were computed at write time. Runs after startup (and after LegacyContentMigration),
+ * walking ids in order and processing several chunks in parallel, each in its own
+ * transaction with one batched UPDATE. Does nothing once every post has stats.
+ */
+@Component
+public class PostStatsBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(PostStatsBackfill.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostContentService postContentService;
+    private final ContentStorageProperties properties;
+
+    public PostStatsBackfill(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             PostContentService postContentService,
+                             ContentStorageProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postContentService = postContentService;
+        this.properties = properties;
+    }
+
+    @Order(LegacyContentMigration.ORDER + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int chunkSize = properties.getStatsBackfillChunkSize();
+        int parallelism = properties.getStatsBackfillParallelism();
+
+        int total = 0;
+        long lastId = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "post-stats-backfill");
+            thread.setDaemon(true);
+            return thread;
+        })) {
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM blogpost WHERE word_count IS NULL AND id > ? ORDER BY id LIMIT ?",
+                        Long.class, lastId, chunkSize * parallelism);
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                List<Future<Integer>> chunks = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    chunks.add(executor.submit(() -> transactionTemplate.execute(status -> backfillChunk(chunk))));
+                }
+                for (Future<Integer> chunk : chunks) {
+                    Integer updated = chunk.get();
+                    total += updated != null ? updated : 0;
+                }
+                lastId = ids.get(ids.size() - 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Post stats backfill stopped after {} posts", total, e.getCause());
+            return;
+        }
+
+        if (total > 0) {
+            log.info("Backfilled excerpt and reading stats for {} posts", total);
+        }
+    }
+
+    private int backfillChunk(List<Long> ids) {
+        Map<Long, String> contents = postContentService.loadAll(ids);
+
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        BlogPost stats = new BlogPost();
+        for (Long id : ids) {
+            PostStats.apply(stats, contents.get(id));
+            rows.add(new Object[]{stats.getExcerpt(), stats.getWordCount(), stats.getReadingTimeMinutes(), id});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE blogpost SET excerpt = ?, word_count = ?, reading_time_minutes = ? WHERE id = ?", rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,150 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.ViewCountProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts post views in memory and writes them behind in batches
+ * A view is one LongAdder increment (striped per thread, no lock, no SQL). Every
+ * flush interval the counts added since the previous flush go out as one batched
+ * "view_count = view_count + ?" UPDATE per chunk, in id order so concurrent
+ * flushes from several instances never deadlock. A chunk only counts as flushed
+ * once its transaction commits, so a failed flush is retried by the next one, and
+ * the last flush runs on shutdown.
+ */
+@Service
+public class PostViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(PostViewCounter.class);
+
+    private static final String FLUSH_SQL = "UPDATE blogpost SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final ViewCountProperties properties;
+    private final Map<Long, ViewCount> counts = new ConcurrentHashMap<>();
+
+    private final Counter viewsFlushed;
+    private final Timer flushTimer;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ViewCountProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        // Flushes also run from shutdown hooks and scheduler threads, never inside a request transaction
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.viewsFlushed = Counter.builder("blog.posts.views.flushed")
+                .description("Post views written to the database")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("blog.posts.views.flush")
+                .description("Time to write the pending view counts")
+                .register(meterRegistry);
+        meterRegistry.gauge("blog.posts.views.tracked", counts, Map::size);
+    }
+
+    /**
+     * Count one view of a post
+     */
+    public void record(long postId) {
+        counts.computeIfAbsent(postId, id -> new ViewCount()).views.increment();
+    }
+
+    /**
+     * Views of a post counted here but not yet written, to add to the stored count
+     */
+    public long unflushed(long postId) {
+        ViewCount count = counts.get(postId);
+        return count == null ? 0 : count.views.sum() - count.flushed;
+    }
+
+    @Scheduled(fixedDelayString = "${blog.views.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Flushing view counts failed, retrying with the next flush", e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int posts = flush();
+        log.info("Flushed view counts of {} posts on shutdown", posts);
+    }
+
+    /**
+     * Write every count added since the last flush; returns the number of posts updated
+     */
+    public synchronized int flush() {
+        List<PendingViews> pending = new ArrayList<>();
+        counts.forEach((postId, count) -> {
+            long total = count.views.sum();
+            if (total > count.flushed) {
+                pending.add(new PendingViews(postId, count, total));
+            }
+        });
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        pending.sort(Comparator.comparingLong(PendingViews::postId));
+
+        return flushTimer.record(() -> {
+            int batchSize = Math.max(1, properties.getFlushBatchSize());
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                flushChunk(pending.subList(from, Math.min(from + batchSize, pending.size())));
+            }
+            return pending.size();
+        });
+    }
+
+    private void flushChunk(List<PendingViews> chunk) {
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        for (PendingViews views : chunk) {
+            rows.add(new Object[]{views.total() - views.count().flushed, views.postId()});
+        }
+
+        int[] updated = flushTransaction.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, rows));
+
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingViews views = chunk.get(i);
+            viewsFlushed.increment(views.total() - views.count().flushed);
+            views.count().flushed = views.total();
+            // No row: the post is gone, stop tracking it
+            if (updated != null && updated[i] == 0) {
+                counts.remove(views.postId(), views.count());
+            }
+        }
+    }
+
+    // Entries stay while their post exists: dropping one could lose a view racing with the removal
+    private static final class ViewCount {
+        final LongAdder views = new LongAdder();
+        // Written by the (single) flushing thread only
+        volatile long flushed;
+    }
+
+    private record PendingViews(long postId, ViewCount count, long total) {}
+}
@@ -0,0 +1,147 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.CoalescingProperties;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight loading: concurrent reads of the same key share one database load
+ * The first caller for a key runs the loader (in a read-only transaction of its own) and
+ * publishes the result through a future; callers arriving while it runs wait for that
+ * result instead of querying again, and get the loader's exception if it failed. A
+ * caller that waits longer than blog.coalescing.wait-timeout-ms loads for itself.
+ *
+ * Nothing is cached: a key is only shared while its load is in flight, and an invalidation
+ * of the entity (a committed write here or on another instance) stops sharing it, so reads
+ * that start after a write never join a load that began before it. Callers should
+ * not hold a transaction while they call load, or every waiting request would keep a
+ * pooled connection busy. Loaded values are shared between threads, so loaders must
+ * return values nobody modifies (callers copy them before changing anything).
+ */
+@Component
+public class ReadCoalescer {
+
+    private final CoalescingProperties properties;
+    private final TransactionTemplate readTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Map<InFlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<EntityType, Outcomes> outcomes = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(CoalescingProperties properties,
+                         PlatformTransactionManager transactionManager,
+                         InvalidationBus invalidationBus,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+
+        meterRegistry.gauge("blog.coalescing.inflight", inFlight, Map::size);
+
+        for (EntityType type : EntityType.values()) {
+            invalidationBus.subscribe(type, InvalidationListener.of(
+                    id -> inFlight.remove(new InFlightKey(type, id)),
+                    () -> inFlight.keySet().removeIf(key -> key.type() == type)));
+        }
+    }
+
+    /**
+     * Value for an entity, loaded by this caller or shared with a concurrent load of the same one
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V load(EntityType type, long id, Supplier<V> loader) {
+        if (!properties.isEnabled()) {
+            return readTransaction.execute(status -> loader.get());
+        }
+
+        InFlightKey inFlightKey = new InFlightKey(type, id);
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(inFlightKey, own);
+        if (running == null) {
+            outcomes(type).loaded.increment();
+            return (V) runLoad(inFlightKey, own, loader);
+        }
+
+        try {
+            Object value = running.get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+            outcomes(type).shared.increment();
+            return (V) value;
+        } catch (ExecutionException e) {
+            outcomes(type).shared.increment();
+            throw rethrow(e.getCause());
+        } catch (TimeoutException e) {
+            // The first load is stuck (slow query, pool exhausted): do not fail the request for it
+            outcomes(type).timedOut.increment();
+            return readTransaction.execute(status -> loader.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + type + " " + id, e);
+        }
+    }
+
+    private Object runLoad(InFlightKey key, CompletableFuture<Object> own, Supplier<?> loader) {
+        Object value;
+        try {
+            value = readTransaction.execute(status -> loader.get());
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, own);
+            own.completeExceptionally(e);
+            throw e;
+        }
+        // Unpublish before completing: a caller arriving from now on starts a fresh load
+        inFlight.remove(key, own);
+        own.complete(value);
+        return value;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private Outcomes outcomes(EntityType type) {
+        return outcomes.computeIfAbsent(type, key -> new Outcomes(meterRegistry, key.name().toLowerCase()));
+    }
+
+    private record InFlightKey(EntityType type, long id) {}
+
+    private static final class Outcomes {
+        final Counter loaded;
+        final Counter shared;
+        final Counter timedOut;
+
+        Outcomes(MeterRegistry meterRegistry, String group) {
+            this.loaded = counter(meterRegistry, group, "loaded", "Reads that ran the database load");
+            this.shared = counter(meterRegistry, group, "shared", "Reads served by a concurrent load (database loads saved)");
+            this.timedOut = counter(meterRegistry, group, "timed-out", "Reads that gave up waiting for a concurrent load and ran their own");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String group, String outcome, String description) {
+            return Counter.builder("blog.coalescing.reads")
+                    .tag("group", group)
+                    .tag("outcome", outcome)
+                    .description(description)
+                    .register(meterRegistry);
+        }
+    }
+}
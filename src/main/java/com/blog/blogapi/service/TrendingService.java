@@ -0,0 +1,260 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.PostSummaryDTO;
+import com.blog.blogapi.DTO.TrendingPostDTO;
+import com.blog.blogapi.config.TrendingProperties;
+import com.blog.blogapi.repository.BlogPostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks posts by exponentially decayed activity (views and writes)
+ * Uses forward decay: an event at time t adds weight * e^(lambda * (t - landmark)), so
+ * stored scores never have to be decayed one by one and only grow, which lets every
+ * stripe keep its top K exact with one comparison per event. When the factor gets
+ * large a stripe rescales to a new landmark and forgets posts that went cold.
+ *
+ * Requests never touch the scores: they read an immutable list that refresh() rebuilds
+ * every few seconds (merging the stripes' top K and loading summaries in one query) and
+ * swaps in with a single volatile write.
+ */
+@Service
+public class TrendingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingService.class);
+
+    // Rescale a stripe before its event weights pass e^20 (about 29 half-lives)
+    private static final double RESCALE_EXPONENT = 20;
+
+    // Posts below this (a single view about ten half-lives ago) are forgotten on rescale
+    private static final double PRUNE_BELOW = 1e-3;
+
+    private final BlogPostRepository blogPostRepository;
+    private final TrendingProperties properties;
+    private final Clock clock;
+    private final double decayPerMilli;
+    private final Stripe[] stripes;
+    private final Timer refreshTimer;
+
+    private volatile List<TrendingPostDTO> snapshot = List.of();
+
+    @Autowired
+    public TrendingService(BlogPostRepository blogPostRepository, TrendingProperties properties, MeterRegistry meterRegistry) {
+        this(blogPostRepository, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    public TrendingService(BlogPostRepository blogPostRepository, TrendingProperties properties,
+                           MeterRegistry meterRegistry, Clock clock) {
+        if (properties.getSize() < 1 || properties.getHalfLifeMinutes() < 1 || properties.getStripes() < 1)
+            throw new IllegalArgumentException("blog.trending size, half-life-minutes and stripes must be positive");
+
+        this.blogPostRepository = blogPostRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.decayPerMilli = Math.log(2) / TimeUnit.MINUTES.toMillis(properties.getHalfLifeMinutes());
+
+        long now = clock.millis();
+        this.stripes = new Stripe[properties.getStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(new TrendingShard(properties.getSize(), 256, now));
+        }
+
+        this.refreshTimer = Timer.builder("blog.posts.trending.refresh")
+                .description("Time to rebuild the trending list")
+                .register(meterRegistry);
+        meterRegistry.gauge("blog.posts.trending.tracked", this, TrendingService::trackedPosts);
+    }
+
+    public void recordView(long postId) {
+        record(postId, properties.getViewWeight());
+    }
+
+    public void recordWrite(long postId) {
+        record(postId, properties.getWriteWeight());
+    }
+
+    /**
+     * Take a deleted post out of the ranking (it also disappears from the next refresh)
+     */
+    public void forget(long postId) {
+        Stripe stripe = stripeFor(postId);
+        stripe.lock.lock();
+        try {
+            stripe.shard.remove(postId);
+            stripe.changed = true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * A post changed (title, deletion...): the next refresh reloads the summaries even without new activity
+     */
+    public void invalidate(long postId) {
+        Stripe stripe = stripeFor(postId);
+        stripe.lock.lock();
+        try {
+            stripe.changed = true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.changed = true;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Top posts, best first, as of the last refresh
+     */
+    public List<TrendingPostDTO> getTrending(int limit) {
+        if (limit < 1 || limit > properties.getSize())
+            throw new IllegalArgumentException("Limit must be between 1 and " + properties.getSize());
+
+        List<TrendingPostDTO> current = snapshot;
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${blog.trending.refresh-interval-ms:5000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Refreshing trending posts failed, keeping the previous list", e);
+        }
+    }
+
+    /**
+     * Rebuild the served list from the stripes' top K; skipped when nothing happened since the last one
+     */
+    public synchronized void refresh() {
+        refreshTimer.record(() -> {
+            long now = clock.millis();
+            int k = properties.getSize();
+            long[] ids = new long[k * stripes.length];
+            double[] scores = new double[ids.length];
+            long[] stripeIds = new long[k];
+            double[] stripeScores = new double[k];
+            int count = 0;
+            boolean changed = false;
+
+            for (Stripe stripe : stripes) {
+                stripe.lock.lock();
+                try {
+                    changed |= stripe.changed;
+                    stripe.changed = false;
+                    TrendingShard shard = stripe.shard;
+                    rescaleIfDue(shard, now);
+                    int n = shard.top(stripeIds, stripeScores);
+                    // Bring every stripe to the same time so scores compare across stripes
+                    double toNow = Math.exp(decayPerMilli * (shard.landmarkMillis - now));
+                    for (int i = 0; i < n; i++) {
+                        ids[count] = stripeIds[i];
+                        scores[count++] = stripeScores[i] * toNow;
+                    }
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+            if (!changed) {
+                return;
+            }
+
+            Integer[] order = new Integer[count];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+            int top = Math.min(k, count);
+
+            List<Long> topIds = new ArrayList<>(top);
+            for (int i = 0; i < top; i++) {
+                topIds.add(ids[order[i]]);
+            }
+            Map<Long, PostSummaryDTO> summaries = topIds.isEmpty() ? Map.of()
+                    : blogPostRepository.findSummariesByIdIn(topIds).stream()
+                            .collect(Collectors.toMap(PostSummaryDTO::getId, Function.identity()));
+
+            List<TrendingPostDTO> ranked = new ArrayList<>(top);
+            for (int i = 0; i < top; i++) {
+                PostSummaryDTO summary = summaries.get(ids[order[i]]);
+                // Posts deleted without a forget() call (e.g. another instance) are skipped
+                if (summary != null) {
+                    ranked.add(new TrendingPostDTO(summary, scores[order[i]]));
+                }
+            }
+            snapshot = List.copyOf(ranked);
+        });
+    }
+
+    private void record(long postId, double weight) {
+        long now = clock.millis();
+        Stripe stripe = stripeFor(postId);
+        stripe.lock.lock();
+        try {
+            TrendingShard shard = stripe.shard;
+            rescaleIfDue(shard, now);
+            shard.add(postId, weight * Math.exp(decayPerMilli * (now - shard.landmarkMillis)));
+            stripe.changed = true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void rescaleIfDue(TrendingShard shard, long now) {
+        double exponent = decayPerMilli * (now - shard.landmarkMillis);
+        if (exponent > RESCALE_EXPONENT) {
+            shard.rescale(Math.exp(-exponent), PRUNE_BELOW);
+            shard.landmarkMillis = now;
+        }
+    }
+
+    private Stripe stripeFor(long postId) {
+        return stripes[(int) Math.floorMod(postId, (long) stripes.length)];
+    }
+
+    private double trackedPosts() {
+        int tracked = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                tracked += stripe.shard.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return tracked;
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final TrendingShard shard;
+        // Set by events, cleared by refresh(); guarded by lock
+        boolean changed;
+
+        Stripe(TrendingShard shard) {
+            this.shard = shard;
+        }
+    }
+}
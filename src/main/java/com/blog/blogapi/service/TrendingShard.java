@@ -0,0 +1,262 @@
+package com.blog.blogapi.service;
+
+/**
+ * One stripe of the trending ranking: scores in an open-addressing long -> double table
+ * (no boxing, no per-entry objects) and an indexed min-heap holding the stripe's top K.
+ *
+ * Scores only grow between rescales (forward decay: newer events carry larger weights),
+ * so every post outside the heap scores at most the heap minimum and a single comparison
+ * per event keeps the top K exact. Not thread-safe, the owner locks around every call.
+ */
+final class TrendingShard {
+
+    // Post ids start at 1, 0 marks a free slot
+    private static final long FREE = 0L;
+    private static final int NOT_IN_HEAP = -1;
+
+    private final int k;
+
+    // Linear probing, kept at most half full
+    private long[] keys;
+    private double[] scores;
+    private int[] heapPositions;
+    private int size;
+
+    // Min-heap on score: heapIds[0] is the weakest of the top K
+    private final long[] heapIds;
+    private final double[] heapScores;
+    private int heapSize;
+
+    // Time the stored scores are relative to, set by the owner
+    long landmarkMillis;
+
+    TrendingShard(int k, int initialCapacity, long landmarkMillis) {
+        this.k = k;
+        this.heapIds = new long[k];
+        this.heapScores = new double[k];
+        this.landmarkMillis = landmarkMillis;
+        allocate(Integer.highestOneBit(Math.max(16, initialCapacity * 2 - 1)) << 1);
+    }
+
+    /**
+     * Add to a post's score and keep the top K in step
+     */
+    void add(long postId, double amount) {
+        int slot = slotFor(postId);
+        double score = scores[slot] += amount;
+
+        int position = heapPositions[slot];
+        if (position != NOT_IN_HEAP) {
+            heapScores[position] = score;
+            siftDown(position);
+        } else if (heapSize < k) {
+            heapIds[heapSize] = postId;
+            heapScores[heapSize] = score;
+            heapPositions[slot] = heapSize;
+            siftUp(heapSize++);
+        } else if (score > heapScores[0]) {
+            heapPositions[find(heapIds[0])] = NOT_IN_HEAP;
+            heapIds[0] = postId;
+            heapScores[0] = score;
+            heapPositions[slot] = 0;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Drop a post (e.g. deleted); its heap place goes to the best post outside the heap
+     */
+    void remove(long postId) {
+        int slot = find(postId);
+        if (slot < 0) {
+            return;
+        }
+        scores[slot] = 0;
+        int position = heapPositions[slot];
+        if (position == NOT_IN_HEAP) {
+            return;
+        }
+        heapPositions[slot] = NOT_IN_HEAP;
+        removeFromHeap(position);
+
+        int best = -1;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE && heapPositions[i] == NOT_IN_HEAP && scores[i] > 0
+                    && (best < 0 || scores[i] > scores[best])) {
+                best = i;
+            }
+        }
+        if (best >= 0) {
+            heapIds[heapSize] = keys[best];
+            heapScores[heapSize] = scores[best];
+            heapPositions[best] = heapSize;
+            siftUp(heapSize++);
+        }
+    }
+
+    /**
+     * Multiply every score by factor (the heap order is unchanged) and forget posts whose
+     * score fell below pruneBelow, unless they are in the top K
+     */
+    void rescale(double factor, double pruneBelow) {
+        for (int i = 0; i < heapSize; i++) {
+            heapScores[i] *= factor;
+        }
+        long[] oldKeys = keys;
+        double[] oldScores = scores;
+        int[] oldPositions = heapPositions;
+        int survivors = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                oldScores[i] *= factor;
+                if (oldPositions[i] != NOT_IN_HEAP || oldScores[i] >= pruneBelow) {
+                    survivors++;
+                }
+            }
+        }
+        rebuild(oldKeys, oldScores, oldPositions, Integer.highestOneBit(Math.max(16, survivors * 2 - 1)) << 1, pruneBelow);
+    }
+
+    /**
+     * Copy the current top K (unordered) into the arrays, returns how many were copied
+     */
+    int top(long[] ids, double[] topScores) {
+        System.arraycopy(heapIds, 0, ids, 0, heapSize);
+        System.arraycopy(heapScores, 0, topScores, 0, heapSize);
+        return heapSize;
+    }
+
+    int size() {
+        return size;
+    }
+
+    double score(long postId) {
+        int slot = find(postId);
+        return slot < 0 ? 0 : scores[slot];
+    }
+
+    // ========== TABLE ==========
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+            if (keys[i] == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    private int slotFor(long key) {
+        if (key == FREE) {
+            throw new IllegalArgumentException("Post id must not be 0");
+        }
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != FREE) {
+            if (keys[i] == key) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            rebuild(keys, scores, heapPositions, keys.length << 1, Double.NEGATIVE_INFINITY);
+            return slotFor(key);
+        }
+        keys[i] = key;
+        heapPositions[i] = NOT_IN_HEAP;
+        size++;
+        return i;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        scores = new double[capacity];
+        heapPositions = new int[capacity];
+        size = 0;
+    }
+
+    // Reinsert the kept entries into a fresh table; heap entries always survive
+    private void rebuild(long[] oldKeys, double[] oldScores, int[] oldPositions, int capacity, double pruneBelow) {
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key == FREE || (oldPositions[j] == NOT_IN_HEAP && oldScores[j] < pruneBelow)) {
+                continue;
+            }
+            int i = hash(key) & mask;
+            while (keys[i] != FREE) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            scores[i] = oldScores[j];
+            heapPositions[i] = oldPositions[j];
+            size++;
+        }
+    }
+
+    // ========== HEAP ==========
+
+    private void removeFromHeap(int position) {
+        heapSize--;
+        if (position == heapSize) {
+            return;
+        }
+        move(heapSize, position);
+        siftDown(position);
+        siftUp(position);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heapScores[parent] <= heapScores[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < heapSize && heapScores[left] < heapScores[smallest]) {
+                smallest = left;
+            }
+            if (right < heapSize && heapScores[right] < heapScores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = heapIds[a];
+        double score = heapScores[a];
+        move(b, a);
+        heapIds[b] = id;
+        heapScores[b] = score;
+        heapPositions[find(id)] = b;
+    }
+
+    private void move(int from, int to) {
+        heapIds[to] = heapIds[from];
+        heapScores[to] = heapScores[from];
+        heapPositions[find(heapIds[to])] = to;
+    }
+}
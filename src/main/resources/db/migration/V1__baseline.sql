@@ -0,0 +1,62 @@
+-- Baseline of the schema previously maintained by ddl-auto: update.
+-- Written to be idempotent so it also converges databases created by Hibernate:
+-- missing tables are created, columns added since are appended, existing ones are left alone.
+-- Unquoted names: PostgreSQL folds BlogPost/Category to lower case, as Hibernate did.
+
+CREATE TABLE IF NOT EXISTS authors (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    email       VARCHAR(150) NOT NULL UNIQUE,
+    bio         TEXT,
+    website     VARCHAR(255),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS Category (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS BlogPost (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    date        DATE NOT NULL,
+    author_id   BIGINT NOT NULL REFERENCES authors (id)
+);
+
+-- Precomputed list-view attributes (excerpt and reading stats)
+ALTER TABLE BlogPost ADD COLUMN IF NOT EXISTS excerpt VARCHAR(300);
+ALTER TABLE BlogPost ADD COLUMN IF NOT EXISTS word_count INTEGER;
+ALTER TABLE BlogPost ADD COLUMN IF NOT EXISTS reading_time_minutes INTEGER;
+
+CREATE TABLE IF NOT EXISTS blogpost_category (
+    blogpost_id BIGINT NOT NULL REFERENCES BlogPost (id),
+    category_id BIGINT NOT NULL REFERENCES Category (id)
+);
+
+-- Compressed post bodies, see PostContentService
+CREATE TABLE IF NOT EXISTS blogpost_content (
+    post_id         BIGINT PRIMARY KEY REFERENCES BlogPost (id) ON DELETE CASCADE,
+    codec           VARCHAR(16) NOT NULL,
+    dictionary_id   BIGINT,
+    original_length INTEGER NOT NULL,
+    data            BYTEA NOT NULL
+);
+
+ALTER TABLE blogpost_content ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+CREATE TABLE IF NOT EXISTS content_dictionary (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    data        BYTEA NOT NULL,
+    sample_size INTEGER NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+-- Rendered HTML keyed by the SHA-256 of the Markdown source, see PostHtmlService
+CREATE TABLE IF NOT EXISTS rendered_html (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    html         VARCHAR(10485760) NOT NULL,
+    rendered_at  TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,16 @@
+-- Indexes for the read paths. Built CONCURRENTLY so existing tables stay writable;
+-- Flyway runs this script outside a transaction because every statement requires it.
+-- Keep transactional statements out of this file.
+
+-- Author lists and feed: author_id equality, then newest first (also serves the FK)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_author_date_id ON BlogPost (author_id, date, id);
+
+-- Date ordering and archives; the category feed walks it newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_date_id ON BlogPost (date, id);
+
+-- Posts of a category, and categories of a post (both FKs of the join table)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_category_category_post ON blogpost_category (category_id, blogpost_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_category_post ON blogpost_category (blogpost_id);
+
+-- Case-insensitive email lookups (AuthorRepository.existsByEmailIgnoreCase)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_authors_email_lower ON authors (lower(email));
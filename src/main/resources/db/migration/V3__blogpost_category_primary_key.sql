@@ -0,0 +1,14 @@
+-- Post categories are a set: one row per (post, category), enforced by the primary key.
+-- Hibernate deletes and inserts single join rows by this key instead of rewriting a post's rows.
+
+-- The old bag mapping allowed duplicate pairs; keep one of each
+DELETE FROM blogpost_category a
+    USING blogpost_category b
+    WHERE a.ctid > b.ctid
+      AND a.blogpost_id = b.blogpost_id
+      AND a.category_id = b.category_id;
+
+ALTER TABLE blogpost_category ADD CONSTRAINT blogpost_category_pkey PRIMARY KEY (blogpost_id, category_id);
+
+-- The primary key leads with blogpost_id and covers the "categories of a post" lookups
+DROP INDEX IF EXISTS idx_blogpost_category_post;
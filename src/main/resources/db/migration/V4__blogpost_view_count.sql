@@ -0,0 +1,3 @@
+-- Post view counts, incremented in batches by PostViewCounter.
+-- A constant default does not rewrite the table (PostgreSQL 11+).
+ALTER TABLE BlogPost ADD COLUMN IF NOT EXISTS view_count BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Soft delete: deletePost stamps deleted_at, PostPurgeJob removes the row later in small chunks.
+-- A nullable column without a default is a catalog-only change, the table is not rewritten.
+ALTER TABLE BlogPost ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
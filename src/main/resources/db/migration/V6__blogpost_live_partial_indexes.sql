@@ -0,0 +1,17 @@
+-- Read-path indexes restricted to live posts. Every entity query carries deleted_at IS NULL
+-- (BlogPost's @SQLRestriction), which matches these predicates, so feeds and archive counts
+-- keep their index-only scans and deleted rows never bloat the indexes. Built CONCURRENTLY
+-- like V2, so Flyway runs this script outside a transaction; keep transactional statements out.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_live_author_date_id ON BlogPost (author_id, date, id) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_live_date_id ON BlogPost (date, id) WHERE deleted_at IS NULL;
+
+-- The foreign key still needs every row indexed (author deletes check deleted posts too)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_author_fk ON BlogPost (author_id);
+
+-- Posts waiting for PostPurgeJob, oldest deletion first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_blogpost_deleted_at ON BlogPost (deleted_at, id) WHERE deleted_at IS NOT NULL;
+
+-- Replaced by the partial versions above
+DROP INDEX CONCURRENTLY IF EXISTS idx_blogpost_author_date_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_blogpost_date_id;
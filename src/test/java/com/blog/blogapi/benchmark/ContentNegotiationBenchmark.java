@@ -0,0 +1,100 @@
+package com.blog.blogapi.benchmark;
+
+import com.blog.blogapi.DTO.BlogPostDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload size and encode/decode cost of a page of posts in each supported representation.
+ * Mappers are configured like the HTTP message converters in ContentNegotiationConfig.
+ * Payload sizes are printed once per fork during setup.
+ *
+ * Run with: mvn -Pbenchmark -DskipTests verify -Dbenchmark.include=ContentNegotiationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentNegotiationBenchmark {
+
+    /**
+     * Same shape as the BlogPostList message: { repeated BlogPost items = 1; }
+     */
+    public static class Items {
+        public List<BlogPostDTO> items;
+    }
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"100"})
+    public int posts;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Items page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            case "protobuf" -> builder.factory(new ProtobufFactory()).build();
+            default -> builder.build();
+        };
+
+        writer = mapper.writerFor(Items.class);
+        reader = mapper.readerFor(Items.class);
+        if ("protobuf".equals(format)) {
+            try (InputStream in = getClass().getResourceAsStream("/static/proto/blog.proto")) {
+                NativeProtobufSchema schema = ProtobufSchemaLoader.std.loadNative(in, true);
+                ProtobufSchema listSchema = schema.forType("BlogPostList");
+                writer = writer.with(listSchema);
+                reader = reader.with(listSchema);
+            }
+        }
+
+        page = new Items();
+        page.items = new ArrayList<>();
+        for (long i = 1; i <= posts; i++) {
+            BlogPostDTO dto = new BlogPostDTO(i % 7 + 1, "Post title number " + i, LocalDate.of(2024, 1, 1).plusDays(i),
+                    "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(8), List.of(1L, i % 5 + 2));
+            dto.setId(i);
+            page.items.add(dto);
+        }
+
+        encoded = writer.writeValueAsBytes(page);
+        System.out.printf("%n[payload] format=%s posts=%d bytes=%d%n", format, posts, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Items decode() throws Exception {
+        return reader.readValue(encoded);
+    }
+}
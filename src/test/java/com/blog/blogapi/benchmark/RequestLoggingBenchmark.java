@@ -0,0 +1,102 @@
+package com.blog.blogapi.benchmark;
+
+import com.blog.blogapi.Application;
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import com.blog.blogapi.repository.CategoryRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request overhead of GET /api/posts/{id} with logging off, with the default (dev)
+ * synchronous console logging and with the prod async/sampled JSON pipeline.
+ *
+ * Each mode runs in its own fork because the logging system is configured once per JVM.
+ * Run with: mvn -Pbenchmark -DskipTests verify -Dbenchmark.include=RequestLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    @Param({"off", "dev", "prod"})
+    public String logging;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.flyway.enabled=false",
+                "--blog.invalidation.transport=in-memory",
+                // Every request comes from 127.0.0.1: the limiter would turn most of them into 429s
+                "--blog.rate-limit.enabled=false"
+        ));
+
+        SpringApplication application = new SpringApplication(Application.class);
+        switch (logging) {
+            case "off" -> {
+                args.add("--logging.level.root=OFF");
+                args.add("--logging.level.com.blog.blogapi=OFF");
+                args.add("--logging.level.org.springdoc=OFF");
+                args.add("--logging.level.org.springframework.web=OFF");
+                args.add("--logging.level.org.hibernate.SQL=OFF");
+                args.add("--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF");
+            }
+            case "prod" -> application.setAdditionalProfiles("prod");
+            default -> {
+                // application.yml as-is
+            }
+        }
+        context = application.run(args.toArray(String[]::new));
+
+        Author author = context.getBean(AuthorRepository.class).save(new Author("Bench Author", "bench@example.com"));
+        Category category = context.getBean(CategoryRepository.class).save(new Category(null, "Bench", "Benchmark category"));
+        BlogPost post = context.getBean(BlogPostRepository.class).save(
+                new BlogPost(null, "Benchmark post", "Some content", LocalDate.now(), author, new ArrayList<>(List.of(category))));
+
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/" + post.getId())).GET().build();
+
+        int status = getPostById();
+        if (status != 200) {
+            throw new IllegalStateException("Benchmark request returned HTTP " + status);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getPostById() throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,171 @@
+package com.blog.blogapi.benchmark;
+
+import org.h2.Driver;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launching the JVM to the first successful GET /api/posts/count, for the
+ * regular fat jar ("default") and the startup-optimized layout ("optimized": extracted
+ * jar + CDS archive + Spring AOT + lazy springdoc beans). The resident set size at
+ * that point is printed at the end of each trial.
+ *
+ * Every invocation starts a fresh process, so this measures cold start. Both modes run
+ * against in-memory H2 (appended to the classpath) so the database is not part of the
+ * measurement. Needs both packagings in target/:
+ *   mvn -Pstartup -DskipTests package
+ *   mvn -Pbenchmark -DskipTests verify -Dbenchmark.include=StartupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final long STARTUP_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(2);
+
+    @Param({"default", "optimized"})
+    public String mode;
+
+    private List<String> command;
+    private File workingDirectory;
+    private Process process;
+    // RSS after the first request, per invocation (JMH would sum an aux counter across iterations)
+    private final List<Double> residentSetMb = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void locateApplication() throws Exception {
+        Path target = Path.of(System.getProperty("startup.target", "target")).toAbsolutePath();
+        Path jar;
+        try (var files = Files.list(target)) {
+            jar = files.filter(path -> path.getFileName().toString().matches("blogapi-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No application jar in " + target + ", run mvn package first"));
+        }
+        String h2 = Path.of(Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        command = new ArrayList<>();
+        command.add(java);
+        if ("optimized".equals(mode)) {
+            Path startup = target.resolve("startup");
+            if (!Files.exists(startup.resolve("application.jsa"))) {
+                throw new IllegalStateException("No CDS archive in " + startup + ", run mvn -Pstartup package first");
+            }
+            workingDirectory = startup.toFile();
+            // The archive was dumped with the extracted jar alone on the classpath; appending H2 keeps it valid
+            command.addAll(List.of(
+                    "-XX:SharedArchiveFile=application.jsa",
+                    "-Dspring.aot.enabled=true",
+                    "-Dspring.profiles.active=startup",
+                    "-cp", jar.getFileName() + File.pathSeparator + h2,
+                    "com.blog.blogapi.Application"));
+        } else {
+            workingDirectory = target.toFile();
+            // PropertiesLauncher runs the fat jar as-is and adds H2 through loader.path
+            command.addAll(List.of(
+                    "-Dloader.path=" + h2,
+                    "-cp", jar.toString(),
+                    "org.springframework.boot.loader.launch.PropertiesLauncher"));
+        }
+        command.addAll(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:startup",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                // Flyway is baked in by AOT, point it at nothing instead of disabling it
+                "--spring.flyway.locations=classpath:none",
+                "--spring.flyway.fail-on-missing-locations=false",
+                // H2 has no LISTEN/NOTIFY
+                "--blog.invalidation.transport=in-memory",
+                // The readiness polling all comes from 127.0.0.1, a 429 must not delay the first 200
+                "--blog.rate-limit.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.blog.blogapi=WARN"));
+    }
+
+    @TearDown(Level.Trial)
+    public void reportFootprint() {
+        DoubleSummaryStatistics rss = residentSetMb.stream().mapToDouble(Double::doubleValue).summaryStatistics();
+        System.out.printf("%nRSS after first request (%s): mean %.1f MB, min %.1f MB, max %.1f MB over %d runs%n",
+                mode, rss.getAverage(), rss.getMin(), rss.getMax(), rss.getCount());
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopApplication() throws Exception {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            process = null;
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstRequest() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> args = new ArrayList<>(command);
+        args.add("--server.port=" + port);
+
+        process = new ProcessBuilder(args)
+                .directory(workingDirectory)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/count")).GET().build();
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue());
+            }
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    residentSetMb.add(residentSetMb(process.pid()));
+                    return status;
+                }
+            } catch (ConnectException e) {
+                // not listening yet
+            }
+            Thread.sleep(5);
+        }
+        throw new IllegalStateException("Application did not answer within " + STARTUP_TIMEOUT_MS + " ms");
+    }
+
+    // Linux only; reports 0 where /proc is not available
+    private static double residentSetMb(long pid) throws Exception {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", "")) / 1024.0;
+            }
+        }
+        return 0;
+    }
+}
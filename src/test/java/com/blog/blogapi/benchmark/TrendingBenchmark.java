@@ -0,0 +1,71 @@
+package com.blog.blogapi.benchmark;
+
+import com.blog.blogapi.config.TrendingProperties;
+import com.blog.blogapi.service.TrendingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Event ingestion rate of the trending ranking: one recordView per operation, on a
+ * skewed id distribution (a few hot posts, a long tail) over 100k posts, from one
+ * thread and from 8 threads at once. The stripes parameter shows what splitting the
+ * score table buys under contention. refresh() is not part of the measurement.
+ *
+ * Run with: mvn -Pbenchmark -DskipTests verify -Dbenchmark.include=TrendingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrendingBenchmark {
+
+    private static final int POSTS = 100_000;
+
+    @Param({"1", "16"})
+    public int stripes;
+
+    private TrendingService trending;
+
+    @State(Scope.Thread)
+    public static class Events {
+        private final long[] postIds = new long[1 << 16];
+        private int next;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            Random random = new Random(Thread.currentThread().threadId());
+            for (int i = 0; i < postIds.length; i++) {
+                // Cubing a uniform value skews towards low ids
+                double u = random.nextDouble();
+                postIds[i] = 1 + (long) (u * u * u * POSTS);
+            }
+        }
+
+        long nextPostId() {
+            return postIds[next++ & (postIds.length - 1)];
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TrendingProperties properties = new TrendingProperties();
+        properties.setStripes(stripes);
+        trending = new TrendingService(null, properties, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void recordView(Events events) {
+        trending.recordView(events.nextPostId());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordViewContended(Events events) {
+        trending.recordView(events.nextPostId());
+    }
+}
@@ -1,5 +1,7 @@
 package com.blog.blogapi.controller;
 
+import com.blog.blogapi.DTO.AuthorDTO;
+import com.blog.blogapi.DTO.ListPage;
 import com.blog.blogapi.model.Author;
 import com.blog.blogapi.repository.AuthorRepository;
 import com.blog.blogapi.repository.BlogPostRepository;
@@ -9,10 +11,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,12 +58,15 @@ public class AuthorControllerIntegrationTest {
         authorRepository.save(author2);
 
         // Act
-        ResponseEntity<Author[]> response = testRestTemplate.getForEntity(baseUrl, Author[].class);
+        ResponseEntity<ListPage<AuthorDTO>> response = testRestTemplate.exchange(baseUrl, HttpMethod.GET, null,
+                new ParameterizedTypeReference<ListPage<AuthorDTO>>() {});
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        List<Author> authors = Arrays.asList(response.getBody());
+        List<AuthorDTO> authors = response.getBody().getItems();
         assertThat(authors).hasSize(2);
+        assertThat(response.getBody().getPage()).isZero();
+        assertThat(response.getBody().isHasMore()).isFalse();
     }
 
     @Test
@@ -1,26 +1,38 @@
 package com.blog.blogapi.controller;
 
+import com.blog.blogapi.DTO.ListPage;
+import com.blog.blogapi.config.PurgeProperties;
 import com.blog.blogapi.model.Author;
 import com.blog.blogapi.model.BlogPost;
 import com.blog.blogapi.model.Category;
 import com.blog.blogapi.repository.AuthorRepository;
 import com.blog.blogapi.repository.BlogPostRepository;
 import com.blog.blogapi.repository.CategoryRepository;
+import com.blog.blogapi.service.BlogService;
+import com.blog.blogapi.service.PostPurgeJob;
+import com.blog.blogapi.service.PostViewCounter;
+import com.blog.blogapi.service.TrendingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -38,6 +50,21 @@ public class BlogControllerIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @BeforeEach
     public void setUp(){
         RestAssured.port = port;
@@ -112,6 +139,447 @@ public class BlogControllerIntegrationTest {
         );
     }
 
+    @Test
+    public void testGetPostById_WithFields_ReturnsOnlyRequestedAttributes() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        BlogPost post = blogPostRepository.save(
+                new BlogPost(null, "Sparse Post", "Long body", LocalDate.now(), author, new ArrayList<>(List.of(category))));
+
+        Map<String, Object> body = given()
+                .queryParam("fields", "title,authorId")
+            .when()
+                .get("/api/posts/{id}", post.getId())
+            .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getMap(".");
+
+        assertThat(body).containsOnlyKeys("id", "title", "authorId");
+        assertThat(body.get("title")).isEqualTo("Sparse Post");
+    }
+
+    @Test
+    public void testGetPostById_ReturnsStoredContent() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        String body = "Compressed content survives the round trip. ".repeat(20);
+        BlogPost post = blogService.createPost(
+                new BlogPost(null, "Stored Post", body, LocalDate.now(), author, new ArrayList<>(List.of(category))));
+
+        given()
+            .when()
+                .get("/api/posts/{id}", post.getId())
+            .then()
+                .statusCode(200)
+                .body("content", org.hamcrest.Matchers.equalTo(body));
+
+        given()
+                .queryParam("fields", "content")
+            .when()
+                .get("/api/posts/{id}", post.getId())
+            .then()
+                .statusCode(200)
+                .body("content", org.hamcrest.Matchers.equalTo(body));
+
+        // Lists do not load bodies and leave the key out instead of sending null
+        given()
+            .when()
+                .get("/api/posts/author/{authorId}", author.getId())
+            .then()
+                .statusCode(200)
+                .body("items[0].id", org.hamcrest.Matchers.equalTo(post.getId().intValue()))
+                .body("items[0]", org.hamcrest.Matchers.not(org.hamcrest.Matchers.hasKey("content")));
+    }
+
+    @Test
+    public void testGetPostHtml_RendersSanitizedHtmlWithEtag() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        BlogPost post = blogService.createPost(new BlogPost(null, "Markdown Post",
+                "# Heading\n\nSome *text* <script>alert(1)</script>", LocalDate.now(), author, new ArrayList<>(List.of(category))));
+
+        String etag = given()
+            .when()
+                .get("/api/posts/{id}/html", post.getId())
+            .then()
+                .statusCode(200)
+                .contentType(org.hamcrest.Matchers.startsWith("text/html"))
+                .body(org.hamcrest.Matchers.containsString("<h1>Heading</h1>"))
+                .body(org.hamcrest.Matchers.containsString("<em>text</em>"))
+                .body(org.hamcrest.Matchers.not(org.hamcrest.Matchers.containsString("<script>")))
+                .extract().header("ETag");
+
+        given()
+                .header("If-None-Match", etag)
+            .when()
+                .get("/api/posts/{id}/html", post.getId())
+            .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void testGetPostSummaries_ServesPrecomputedStats() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        blogService.createPost(new BlogPost(null, "Summary Post", "## Intro\n\n" + "Spring Boot rocks. ".repeat(100),
+                LocalDate.now(), author, new ArrayList<>(List.of(category))));
+
+        given()
+            .when()
+                .get("/api/posts/summaries")
+            .then()
+                .statusCode(200)
+                .body("items.size()", org.hamcrest.Matchers.equalTo(1))
+                .body("items[0].title", org.hamcrest.Matchers.equalTo("Summary Post"))
+                .body("items[0].summary", org.hamcrest.Matchers.startsWith("Intro Spring Boot rocks."))
+                .body("items[0].author", org.hamcrest.Matchers.equalTo("Jane Doe"))
+                .body("items[0].wordCount", org.hamcrest.Matchers.equalTo(301))
+                .body("items[0].readingTimeMinutes", org.hamcrest.Matchers.equalTo(2))
+                .body("items[0]", org.hamcrest.Matchers.not(org.hamcrest.Matchers.hasKey("content")))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(false));
+    }
+
+    @Test
+    public void testGetPostSummaries_PagesByNumberThenByCursor() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        for (int day = 1; day <= 3; day++) {
+            blogPostRepository.save(new BlogPost(null, "Post " + day, null, LocalDate.of(2024, 1, day),
+                    author, new ArrayList<>(List.of(category))));
+        }
+
+        String cursor = given()
+                .queryParam("page", 0)
+                .queryParam("size", 2)
+            .when()
+                .get("/api/posts/summaries")
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Post 3", "Post 2"))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(true))
+                .extract().path("nextCursor");
+
+        given()
+                .queryParam("size", 2)
+                .queryParam("cursor", cursor)
+            .when()
+                .get("/api/posts/summaries")
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Post 1"))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(false));
+    }
+
+    @Test
+    public void testGetPostFieldsByAuthor_PagesAndKeepsOnlyRequestedFields() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        for (int day = 1; day <= 3; day++) {
+            blogPostRepository.save(new BlogPost(null, "Post " + day, null, LocalDate.of(2024, 1, day),
+                    author, new ArrayList<>(List.of(category))));
+        }
+
+        String cursor = given()
+                .queryParam("fields", "title")
+                .queryParam("size", 2)
+            .when()
+                .get("/api/posts/author/{id}", author.getId())
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Post 3", "Post 2"))
+                .body("items[0].keySet()", org.hamcrest.Matchers.containsInAnyOrder("id", "title"))
+                .body("page", org.hamcrest.Matchers.equalTo(0))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(true))
+                .extract().path("nextCursor");
+
+        given()
+                .queryParam("fields", "title,date")
+                .queryParam("size", 2)
+                .queryParam("cursor", cursor)
+            .when()
+                .get("/api/posts/author/{id}", author.getId())
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Post 1"))
+                .body("items[0].date", org.hamcrest.Matchers.equalTo("2024-01-01"))
+                .body("nextCursor", org.hamcrest.Matchers.nullValue());
+    }
+
+    @Test
+    public void testGetCategoryFeed_PagesNewestFirstWithCursor() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        for (int day = 1; day <= 5; day++) {
+            blogPostRepository.save(new BlogPost(null, "Post " + day, null, LocalDate.of(2024, 1, day),
+                    author, new ArrayList<>(List.of(category))));
+        }
+
+        String cursor = given()
+                .queryParam("size", 2)
+            .when()
+                .get("/api/posts/category/{id}/feed", category.getId())
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Post 5", "Post 4"))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(true))
+                .extract().path("nextCursor");
+
+        cursor = given()
+                .queryParam("size", 2)
+                .queryParam("cursor", cursor)
+            .when()
+                .get("/api/posts/category/{id}/feed", category.getId())
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Post 3", "Post 2"))
+                .extract().path("nextCursor");
+
+        given()
+                .queryParam("size", 2)
+                .queryParam("cursor", cursor)
+            .when()
+                .get("/api/posts/author/{id}/feed", author.getId())
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Post 1"))
+                .body("nextCursor", org.hamcrest.Matchers.nullValue())
+                .body("hasMore", org.hamcrest.Matchers.equalTo(false));
+    }
+
+    @Test
+    public void testGetCategoryFeed_WithInvalidCursor_ShouldReturn400() {
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+
+        given()
+                .queryParam("cursor", "not-a-cursor")
+            .when()
+                .get("/api/posts/category/{id}/feed", category.getId())
+            .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testSearchPosts_PagesByNumberThenByCursor() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        for (int day = 1; day <= 5; day++) {
+            blogPostRepository.save(new BlogPost(null, "Spring " + day, null, LocalDate.of(2024, 1, day),
+                    author, new ArrayList<>(List.of(category))));
+        }
+        blogPostRepository.save(new BlogPost(null, "Unrelated", null, LocalDate.of(2024, 2, 1),
+                author, new ArrayList<>(List.of(category))));
+
+        String cursor = given()
+                .queryParam("keyword", "spring")
+                .queryParam("page", 1)
+                .queryParam("size", 2)
+            .when()
+                .get("/api/posts/search")
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Spring 3", "Spring 2"))
+                .body("page", org.hamcrest.Matchers.equalTo(1))
+                .body("size", org.hamcrest.Matchers.equalTo(2))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(true))
+                .extract().path("nextCursor");
+
+        // The cursor of an offset page continues in cursor mode
+        given()
+                .queryParam("keyword", "spring")
+                .queryParam("size", 2)
+                .queryParam("cursor", cursor)
+            .when()
+                .get("/api/posts/search")
+            .then()
+                .statusCode(200)
+                .body("items.title", org.hamcrest.Matchers.contains("Spring 1"))
+                .body("page", org.hamcrest.Matchers.nullValue())
+                .body("hasMore", org.hamcrest.Matchers.equalTo(false))
+                .body("nextCursor", org.hamcrest.Matchers.nullValue());
+    }
+
+    @Test
+    public void testListEndpoints_RejectUnboundedPages() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+
+        given().queryParam("size", 101)
+            .when().get("/api/posts/author/{id}", author.getId())
+            .then().statusCode(400);
+        given().queryParam("page", 10_000)
+            .when().get("/api/posts/author/{id}", author.getId())
+            .then().statusCode(400);
+        given().queryParam("size", 10_000_000)
+            .when().get("/api/posts/page")
+            .then().statusCode(400);
+        given().queryParam("size", 101).queryParam("fields", "id")
+            .when().get("/api/posts/page")
+            .then().statusCode(400);
+        given().queryParam("size", 101)
+            .when().get("/api/posts")
+            .then().statusCode(400);
+        given().queryParam("page", 0).queryParam("cursor", "")
+            .when().get("/api/authors")
+            .then().statusCode(400);
+        given().queryParam("name", "jane").queryParam("size", 0)
+            .when().get("/api/authors/search")
+            .then().statusCode(400);
+    }
+
+    @Test
+    public void testGetPostsBatch_KeepsRequestedOrderAndMarksMissingIds() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        BlogPost first = blogService.createPost(new BlogPost(null, "First", "First body",
+                LocalDate.now(), author, new ArrayList<>(List.of(category))));
+        BlogPost second = blogService.createPost(new BlogPost(null, "Second", "Second body",
+                LocalDate.now(), author, new ArrayList<>(List.of(category))));
+        long missing = second.getId() + 1000;
+
+        given()
+                .queryParam("ids", second.getId() + "," + missing + "," + first.getId())
+            .when()
+                .get("/api/posts/batch")
+            .then()
+                .statusCode(200)
+                .body("items.size()", org.hamcrest.Matchers.equalTo(3))
+                .body("items[0].title", org.hamcrest.Matchers.equalTo("Second"))
+                .body("items[0].content", org.hamcrest.Matchers.equalTo("Second body"))
+                .body("items[1]", org.hamcrest.Matchers.nullValue())
+                .body("items[2].title", org.hamcrest.Matchers.equalTo("First"))
+                .body("missingIds", org.hamcrest.Matchers.contains((int) missing));
+
+        given()
+                .queryParam("ids", category.getId() + ",0")
+            .when()
+                .get("/api/categories/batch")
+            .then()
+                .statusCode(200)
+                .body("items[0].name", org.hamcrest.Matchers.equalTo("Tech"))
+                .body("items[1]", org.hamcrest.Matchers.nullValue())
+                .body("missingIds", org.hamcrest.Matchers.contains(0));
+    }
+
+    @Test
+    public void testGetPostsBatch_OverMaximumSize_ShouldReturn400() {
+        String ids = String.join(",", java.util.stream.LongStream.rangeClosed(1, 101).mapToObj(Long::toString).toList());
+
+        given()
+                .queryParam("ids", ids)
+            .when()
+                .get("/api/posts/batch")
+            .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testBulkCategoryAssignment_SkipsExistingPairsAndSupportsAuthorFilter() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category tech = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        Category java = categoryRepository.save(new Category(null, "Java", "Java related"));
+        BlogPost tagged = blogPostRepository.save(new BlogPost(null, "Tagged", null, LocalDate.now(),
+                author, new ArrayList<>(List.of(tech, java))));
+        BlogPost untagged = blogPostRepository.save(new BlogPost(null, "Untagged", null, LocalDate.now(),
+                author, new ArrayList<>(List.of(tech))));
+
+        given()
+                .contentType("application/json")
+                .body(Map.of("postIds", List.of(tagged.getId(), untagged.getId(), untagged.getId() + 1000)))
+            .when()
+                .post("/api/posts/category/{id}/bulk-assign", java.getId())
+            .then()
+                .statusCode(200)
+                .body("postsChanged", org.hamcrest.Matchers.equalTo(1));
+        assertThat(blogPostRepository.countByCategoryId(java.getId())).isEqualTo(2);
+
+        given()
+                .contentType("application/json")
+                .body(Map.of("authorId", author.getId()))
+            .when()
+                .post("/api/posts/category/{id}/bulk-remove", java.getId())
+            .then()
+                .statusCode(200)
+                .body("postsChanged", org.hamcrest.Matchers.equalTo(2));
+        assertThat(blogPostRepository.countByCategoryId(java.getId())).isZero();
+        assertThat(blogPostRepository.countByCategoryId(tech.getId())).isEqualTo(2);
+
+        given()
+                .contentType("application/json")
+                .body(Map.of("postIds", List.of(tagged.getId()), "authorId", author.getId()))
+            .when()
+                .post("/api/posts/category/{id}/bulk-assign", java.getId())
+            .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testGetPostById_CountsViewsAndWritesThemBehind() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        BlogPost post = blogPostRepository.save(new BlogPost(null, "Viewed Post", null, LocalDate.now(),
+                author, new ArrayList<>(List.of(category))));
+
+        given().when().get("/api/posts/{id}", post.getId()).then().statusCode(200);
+        given()
+            .when()
+                .get("/api/posts/{id}", post.getId())
+            .then()
+                .statusCode(200)
+                .body("viewCount", org.hamcrest.Matchers.equalTo(2));
+
+        postViewCounter.flush();
+        assertThat(blogPostRepository.findById(post.getId()).orElseThrow().getViewCount()).isEqualTo(2);
+
+        given()
+            .when()
+                .get("/api/posts/{id}", post.getId())
+            .then()
+                .statusCode(200)
+                .body("viewCount", org.hamcrest.Matchers.equalTo(3));
+    }
+
+    @Test
+    public void testGetTrendingPosts_RanksByRecentViews() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        BlogPost quiet = blogPostRepository.save(new BlogPost(null, "Quiet Post", null, LocalDate.now(),
+                author, new ArrayList<>(List.of(category))));
+        BlogPost popular = blogPostRepository.save(new BlogPost(null, "Popular Post", null, LocalDate.now(),
+                author, new ArrayList<>(List.of(category))));
+
+        given().when().get("/api/posts/{id}", quiet.getId()).then().statusCode(200);
+        for (int i = 0; i < 3; i++) {
+            given().when().get("/api/posts/{id}", popular.getId()).then().statusCode(200);
+        }
+        trendingService.refresh();
+
+        given()
+                .queryParam("limit", 2)
+            .when()
+                .get("/api/posts/trending")
+            .then()
+                .statusCode(200)
+                .body("post.title", org.hamcrest.Matchers.contains("Popular Post", "Quiet Post"));
+
+        given()
+                .queryParam("limit", 0)
+            .when()
+                .get("/api/posts/trending")
+            .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testGetPostById_WithUnknownField_ShouldReturn400() {
+        given()
+                .queryParam("fields", "title,password")
+            .when()
+                .get("/api/posts/{id}", 1)
+            .then()
+                .statusCode(400);
+    }
+
     @Test
     void testH2Connection() {
         System.out.println("Running with test DB (H2)");
@@ -125,8 +593,116 @@ public class BlogControllerIntegrationTest {
                 .statusCode(200)
                 .contentType("application/json")
                 .extract()
-                .as(List.class);
+                .as(ListPage.class);
+
+        assertThat(response.getItems()).isNotNull();
+    }
+
+    @Test
+    public void testArchive_CountsMonthsAndPagesThroughOne() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        // Created through the service so back-dated months are announced to the archive
+        List<LocalDate> dates = List.of(LocalDate.of(2023, 12, 5), LocalDate.of(2024, 1, 10),
+                LocalDate.of(2024, 1, 20), LocalDate.of(2024, 1, 20), LocalDate.now());
+        List<BlogPost> posts = new ArrayList<>();
+        for (LocalDate date : dates) {
+            posts.add(blogService.createPost(new BlogPost(null, "Post of " + date, null, date,
+                    author, new ArrayList<>(List.of(category)))));
+        }
+
+        given()
+            .when()
+                .get("/api/posts/archive")
+            .then()
+                .statusCode(200)
+                .body("year", org.hamcrest.Matchers.contains(LocalDate.now().getYear(), 2024, 2023))
+                .body("month", org.hamcrest.Matchers.contains(LocalDate.now().getMonthValue(), 1, 12))
+                .body("postCount", org.hamcrest.Matchers.contains(1, 3, 1));
+
+        String cursor = given()
+                .queryParam("size", 2)
+            .when()
+                .get("/api/posts/archive/{year}/{month}", 2024, 1)
+            .then()
+                .statusCode(200)
+                .body("items.id", org.hamcrest.Matchers.contains(posts.get(3).getId().intValue(), posts.get(2).getId().intValue()))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(true))
+                .extract().path("nextCursor");
+        given()
+                .queryParam("size", 2)
+                .queryParam("cursor", cursor)
+            .when()
+                .get("/api/posts/archive/{year}/{month}", 2024, 1)
+            .then()
+                .statusCode(200)
+                .body("items.id", org.hamcrest.Matchers.contains(posts.get(1).getId().intValue()))
+                .body("hasMore", org.hamcrest.Matchers.equalTo(false));
+
+        blogService.deletePost(posts.get(0).getId());
+
+        given()
+            .when()
+                .get("/api/posts/archive")
+            .then()
+                .statusCode(200)
+                .body("postCount", org.hamcrest.Matchers.contains(1, 3));
+        given()
+            .when()
+                .get("/api/posts/archive/{year}/{month}", 2024, 13)
+            .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testArchive_PutMovingPostOutOfClosedMonth_UpdatesBothCounts() {
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        BlogPost moved = null;
+        for (LocalDate date : List.of(LocalDate.of(2023, 12, 5), LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 20))) {
+            moved = blogService.createPost(new BlogPost(null, "Post of " + date, null, date,
+                    author, new ArrayList<>(List.of(category))));
+        }
+
+        // Both months are closed, so the archive caches their counts; the current month is counted per request
+        given()
+            .when()
+                .get("/api/posts/archive")
+            .then()
+                .statusCode(200)
+                .body("postCount", org.hamcrest.Matchers.contains(2, 1));
+
+        String json = """
+        {
+          "title": "Moved Post",
+          "date": "%s",
+          "authorId": %d,
+          "categoryIds": [%d]
+        }
+        """.formatted(LocalDate.now(), author.getId(), category.getId());
+        given()
+                .contentType("application/json")
+                .body(json)
+            .when()
+                .put("/api/posts/{id}", moved.getId())
+            .then()
+                .statusCode(200);
+
+        given()
+            .when()
+                .get("/api/posts/archive")
+            .then()
+                .statusCode(200)
+                .body("month", org.hamcrest.Matchers.contains(LocalDate.now().getMonthValue(), 1, 12))
+                .body("postCount", org.hamcrest.Matchers.contains(1, 1, 1));
+    }
 
-        assertThat(response).isNotNull();
+    // Soft-deleted rows would keep the next setUp from deleting authors and categories
+    @AfterEach
+    public void purgeDeletedPosts() {
+        PurgeProperties properties = new PurgeProperties();
+        properties.setRetentionHours(0);
+        properties.setPauseMs(0);
+        new PostPurgeJob(jdbcTemplate, transactionTemplate, properties, new SimpleMeterRegistry()).purge();
     }
 }
@@ -0,0 +1,141 @@
+package com.blog.blogapi.controller;
+
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+public class ContentNegotiationIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    private Author author;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        blogPostRepository.deleteAll();
+        authorRepository.deleteAll();
+        author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+    }
+
+    @Test
+    public void testJsonIsTheDefault() {
+        given()
+                .accept("*/*")
+        .when()
+                .get("/api/authors/{id}", author.getId())
+        .then()
+                .statusCode(200)
+                .contentType("application/json");
+    }
+
+    @Test
+    public void testCborRepresentation() throws Exception {
+        Response response = given()
+                .accept("application/cbor")
+        .when()
+                .get("/api/authors/{id}", author.getId());
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("application/cbor");
+
+        ObjectMapper cbor = new CBORMapper();
+        Map<?, ?> decoded = cbor.readValue(response.asByteArray(), Map.class);
+        assertThat(decoded.get("name")).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    public void testProtobufRepresentation() throws Exception {
+        Response response = given()
+                .accept("application/x-protobuf")
+        .when()
+                .get("/api/authors/{id}", author.getId());
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getHeader("X-Protobuf-Message")).isEqualTo("blog.Author");
+
+        String proto = RestAssured.get(response.getHeader("X-Protobuf-Schema")).asString();
+        NativeProtobufSchema schema = ProtobufSchemaLoader.std.parseNative(proto);
+        Map<?, ?> decoded = new ProtobufMapper().readerFor(Map.class)
+                .with(schema.forType("Author"))
+                .readValue(response.asByteArray());
+
+        assertThat(decoded.get("email")).isEqualTo("jane@example.com");
+    }
+
+    @Test
+    public void testProtobufListRepresentation() throws Exception {
+        Response response = given()
+                .accept("application/x-protobuf")
+        .when()
+                .get("/api/authors");
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getHeader("X-Protobuf-Message")).isEqualTo("blog.AuthorList");
+
+        String proto = RestAssured.get(response.getHeader("X-Protobuf-Schema")).asString();
+        NativeProtobufSchema schema = ProtobufSchemaLoader.std.parseNative(proto);
+        Map<?, ?> decoded = new ProtobufMapper().readerFor(Map.class)
+                .with(schema.forType("AuthorList"))
+                .readValue(response.asByteArray());
+
+        assertThat(decoded.get("items").toString()).contains("jane@example.com");
+        assertThat(decoded.get("page")).isEqualTo(0);
+        assertThat(decoded.get("hasMore")).isEqualTo(false);
+    }
+
+    @Test
+    public void testProtobufCursorPageRepresentation() throws Exception {
+        authorRepository.save(new Author("John Roe", "john@example.com"));
+
+        Response response = given()
+                .accept("application/x-protobuf")
+                .queryParam("cursor", "")
+                .queryParam("size", 1)
+        .when()
+                .get("/api/authors");
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getHeader("X-Protobuf-Message")).isEqualTo("blog.AuthorList");
+
+        String proto = RestAssured.get(response.getHeader("X-Protobuf-Schema")).asString();
+        NativeProtobufSchema schema = ProtobufSchemaLoader.std.parseNative(proto);
+        Map<?, ?> decoded = new ProtobufMapper().readerFor(Map.class)
+                .with(schema.forType("AuthorList"))
+                .readValue(response.asByteArray());
+
+        assertThat(decoded.get("items").toString()).contains("jane@example.com").doesNotContain("john@example.com");
+        assertThat(decoded.get("page")).isNull();
+        assertThat(decoded.get("hasMore")).isEqualTo(true);
+        assertThat(decoded.get("nextCursor")).isNotNull();
+    }
+}
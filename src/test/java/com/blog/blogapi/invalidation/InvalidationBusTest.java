@@ -0,0 +1,196 @@
+package com.blog.blogapi.invalidation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class InvalidationBusTest {
+
+    private final RecordingTransport transport = new RecordingTransport();
+    private InvalidationBus nodeA;
+    private InvalidationBus nodeB;
+    private final List<Long> invalidatedOnA = new ArrayList<>();
+    private final List<Long> invalidatedOnB = new ArrayList<>();
+    private int resetsOnB;
+
+    @BeforeEach
+    public void setUp() {
+        nodeA = newNode(invalidatedOnA);
+        nodeB = newNode(invalidatedOnB);
+        nodeB.subscribe(EntityType.POST, InvalidationListener.of(id -> { }, () -> resetsOnB++));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void testWrite_NotifiesLocalListenersAtOnceAndOtherInstancesOnFlush() {
+        nodeA.publishAfterCommit(EntityType.POST, 1L);
+
+        assertThat(invalidatedOnA).containsExactly(1L);
+        assertThat(invalidatedOnB).isEmpty();
+
+        nodeA.flush();
+
+        assertThat(invalidatedOnB).containsExactly(1L);
+        // Its own batch coming back is not applied twice
+        assertThat(invalidatedOnA).containsExactly(1L);
+    }
+
+    @Test
+    public void testWriteInTransaction_IsPublishedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        nodeA.publishAfterCommit(EntityType.POST, 1L);
+        assertThat(invalidatedOnA).isEmpty();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(invalidatedOnA).containsExactly(1L);
+
+        // Rolled back: the synchronization is dropped without running
+        TransactionSynchronizationManager.initSynchronization();
+        nodeA.publishAfterCommit(EntityType.POST, 2L);
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(nodeA.flush()).isEqualTo(1);
+        assertThat(invalidatedOnB).containsExactly(1L);
+    }
+
+    @Test
+    public void testWritesBetweenFlushes_AreCoalescedIntoOneBatch() {
+        nodeA.publishAfterCommit(EntityType.POST, 1L);
+        nodeA.publishAfterCommit(EntityType.POST, 1L);
+        nodeA.publishAfterCommit(EntityType.POST, 2L);
+        nodeA.publishAfterCommit(EntityType.CATEGORY, 1L);
+        nodeA.publishAfterCommit(EntityType.POST, 1L);
+
+        assertThat(nodeA.flush()).isEqualTo(3);
+
+        assertThat(transport.batches).hasSize(1);
+        List<InvalidationEvent> events = transport.batches.get(0).events();
+        assertThat(events).extracting(InvalidationEvent::type, InvalidationEvent::id)
+                .containsExactlyInAnyOrder(
+                        tuple(EntityType.POST, 1L),
+                        tuple(EntityType.POST, 2L),
+                        tuple(EntityType.CATEGORY, 1L));
+        assertThat(nodeA.flush()).isZero();
+    }
+
+    @Test
+    public void testFailedSend_IsRetriedByTheNextFlush() {
+        nodeA.publishAfterCommit(EntityType.POST, 1L);
+        transport.failNext = true;
+
+        assertThatThrownBy(nodeA::flush).isInstanceOf(IllegalStateException.class);
+        assertThat(invalidatedOnB).isEmpty();
+
+        assertThat(nodeA.flush()).isEqualTo(1);
+        assertThat(invalidatedOnB).containsExactly(1L);
+    }
+
+    @Test
+    public void testFillStartedBeforeInvalidation_IsNotCurrent() {
+        long beforeWrite = nodeB.stamp();
+
+        nodeA.publishAfterCommit(EntityType.POST, 1L);
+        nodeA.flush();
+
+        assertThat(nodeB.isCurrent(EntityType.POST, 1L, beforeWrite)).isFalse();
+        assertThat(nodeB.isCurrent(EntityType.POST, 2L, beforeWrite)).isTrue();
+        assertThat(nodeB.isCurrent(EntityType.CATEGORY, 1L, beforeWrite)).isTrue();
+        assertThat(nodeB.isCurrent(EntityType.POST, 1L, nodeB.stamp())).isTrue();
+    }
+
+    @Test
+    public void testLateOlderEvent_DoesNotMakeAStaleFillCurrent() {
+        long now = System.currentTimeMillis() << 12;
+        transport.publish(new InvalidationBatch("c", List.of(new InvalidationEvent(EntityType.POST, 1L, now + 10))));
+        long fillAfterNewer = nodeB.stamp();
+
+        // An older write of the same post, delivered after the newer one
+        transport.publish(new InvalidationBatch("d", List.of(new InvalidationEvent(EntityType.POST, 1L, now - 10))));
+
+        assertThat(nodeB.isCurrent(EntityType.POST, 1L, fillAfterNewer)).isFalse();
+        assertThat(invalidatedOnB).containsExactly(1L, 1L);
+        assertThat(nodeB.isCurrent(EntityType.POST, 1L, nodeB.stamp())).isTrue();
+    }
+
+    @Test
+    public void testStamps_MovePastEveryVersionReceived() {
+        long ahead = (System.currentTimeMillis() + 60_000) << 12;
+        transport.publish(new InvalidationBatch("c", List.of(new InvalidationEvent(EntityType.AUTHOR, 7L, ahead))));
+
+        assertThat(nodeB.stamp()).isGreaterThan(ahead);
+    }
+
+    @Test
+    public void testTransportReset_InvalidatesEverything() {
+        long beforeReset = nodeB.stamp();
+
+        transport.receivers.get(1).reset();
+
+        assertThat(resetsOnB).isEqualTo(1);
+        assertThat(nodeB.isCurrent(EntityType.CATEGORY, 3L, beforeReset)).isFalse();
+        assertThat(nodeB.isCurrent(EntityType.CATEGORY, 3L, nodeB.stamp())).isTrue();
+    }
+
+    @Test
+    public void testBatchEncoding_RoundTripsAndSplitsUnderTheNotifyLimit() {
+        List<InvalidationEvent> events = LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> new InvalidationEvent(EntityType.values()[(int) (id % 3)], id * 1_000_003L, Long.MAX_VALUE - id))
+                .toList();
+        InvalidationBatch batch = new InvalidationBatch("9f2c41d0", events);
+
+        assertThat(InvalidationBatch.decode(batch.encode())).isEqualTo(batch);
+
+        List<String> payloads = PostgresInvalidationTransport.split(batch);
+        assertThat(payloads).hasSizeGreaterThan(1)
+                .allSatisfy(payload -> assertThat(payload.length()).isLessThanOrEqualTo(PostgresInvalidationTransport.MAX_PAYLOAD_BYTES));
+        assertThat(payloads.stream().flatMap(payload -> InvalidationBatch.decode(payload).events().stream()))
+                .containsExactlyElementsOf(events);
+    }
+
+    private InvalidationBus newNode(List<Long> invalidated) {
+        InvalidationBus bus = new InvalidationBus(transport, new InvalidationProperties(), new SimpleMeterRegistry());
+        bus.subscribe(EntityType.POST, InvalidationListener.of(invalidated::add, () -> { }));
+        bus.start();
+        return bus;
+    }
+
+    // Several buses on one transport stand in for several instances
+    private static final class RecordingTransport extends InMemoryInvalidationTransport {
+        final List<InvalidationBatch> batches = new ArrayList<>();
+        final List<Receiver> receivers = new ArrayList<>();
+        boolean failNext;
+
+        @Override
+        public void start(Receiver receiver) {
+            receivers.add(receiver);
+            super.start(receiver);
+        }
+
+        @Override
+        public void publish(InvalidationBatch batch) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("Connection refused");
+            }
+            batches.add(batch);
+            super.publish(batch);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.blog.blogapi.monitoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class ExplainPlanSamplerTest {
+
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement statement;
+    private ExplainPlanSampler sampler;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("Seq Scan on blogpost");
+
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setExplainSampleRate(1.0);
+        sampler = new ExplainPlanSampler(dataSource, properties);
+    }
+
+    @Test
+    public void testExplainRunsInReadOnlyTransactionThatIsRolledBack() throws Exception {
+        //Arrange
+        SlowQueryRecord record = record("select * from blogpost where author_id = ?", List.of(7L));
+
+        //Act
+        sampler.maybeExplain(record);
+
+        //Assert
+        verify(connection, timeout(2000)).setAutoCommit(true);
+        InOrder inOrder = inOrder(connection, statement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection).setReadOnly(true);
+        inOrder.verify(connection).prepareStatement("EXPLAIN (ANALYZE, BUFFERS) select * from blogpost where author_id = ?");
+        inOrder.verify(statement).setObject(1, 7L);
+        inOrder.verify(statement).executeQuery();
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, never()).commit();
+        assertEquals("Seq Scan on blogpost", record.getPlan());
+    }
+
+    @Test
+    public void testStatementsThatWriteOrLockAreNeverExplained() throws Exception {
+        //Act
+        sampler.maybeExplain(record("WITH d AS (DELETE FROM blogpost WHERE id = ? RETURNING id) SELECT count(*) FROM d", List.of(1L)));
+        sampler.maybeExplain(record("select * from blogpost where id = ? for update", List.of(1L)));
+        sampler.maybeExplain(record("select * from blogpost where id = ? for no key update", List.of(1L)));
+        sampler.maybeExplain(record("select * from blogpost where id = ? for share", List.of(1L)));
+        sampler.maybeExplain(record("update blogpost set title = ? where id = ?", List.of("t", 1L)));
+
+        //Assert
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    public void testIsReadOnly() {
+        assertTrue(ExplainPlanSampler.isReadOnly("  SELECT id, updated_at FROM blogpost"));
+        assertTrue(ExplainPlanSampler.isReadOnly("with recent as (select id from blogpost) select * from recent"));
+        assertFalse(ExplainPlanSampler.isReadOnly("with d as (insert into category(name) values (?) returning id) select * from d"));
+        assertFalse(ExplainPlanSampler.isReadOnly("delete from blogpost"));
+    }
+
+    private static SlowQueryRecord record(String sql, List<Object> parameters) {
+        return new SlowQueryRecord(Instant.now(), sql, parameters, 500, "BlogService.getPostById:52", true);
+    }
+}
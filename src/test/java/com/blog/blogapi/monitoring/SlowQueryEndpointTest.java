@@ -0,0 +1,32 @@
+package com.blog.blogapi.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlowQueryEndpointTest {
+
+    @Test
+    public void testBindValuesAreMaskedInTheResponse() throws Exception {
+        //Arrange
+        SlowQueryRingBuffer buffer = new SlowQueryRingBuffer(4);
+        List<Object> parameters = Arrays.asList("jane@example.com", 5L, null);
+        buffer.add(new SlowQueryRecord(Instant.now(), "select * from authors where email = ? and id > ? and bio = ?",
+                parameters, 250, "AuthorService.getAuthorByEmail:10", true));
+        SlowQueryEndpoint endpoint = new SlowQueryEndpoint(buffer, new SlowQueryProperties());
+
+        //Act
+        String json = new ObjectMapper().findAndRegisterModules().writeValueAsString(endpoint.slowQueries());
+
+        //Assert
+        assertFalse(json.contains("jane@example.com"));
+        assertTrue(json.contains("\"parameters\":[\"<String>\",\"<Long>\",\"null\"]"));
+        // The sampler still binds the real values
+        assertEquals(parameters, buffer.snapshot().get(0).getParameters());
+    }
+}
@@ -0,0 +1,92 @@
+package com.blog.blogapi.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SlowQueryListenerTest {
+
+    private SlowQueryRingBuffer buffer;
+    private ExplainPlanSampler sampler;
+    private SlowQueryListener listener;
+
+    @BeforeEach
+    public void setUp() {
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThresholdMs(100);
+        buffer = new SlowQueryRingBuffer(8);
+        sampler = mock(ExplainPlanSampler.class);
+        listener = new SlowQueryListener(properties, buffer, sampler);
+    }
+
+    @Test
+    public void testFastStatementsAreIgnored() {
+        //Act
+        listener.afterQuery(execution(99), List.of(new QueryInfo("select 1")));
+
+        //Assert
+        assertEquals(0, buffer.totalRecorded());
+        verifyNoInteractions(sampler);
+    }
+
+    @Test
+    public void testSlowStatementIsRecordedWithOrderedParametersAndSampled() throws Exception {
+        //Arrange
+        QueryInfo queryInfo = new QueryInfo("select * from blogpost where author_id = ? and title = ? and deleted_at = ?");
+        List<ParameterSetOperation> parameters = new ArrayList<>();
+        parameters.add(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{2, "Spring"}));
+        parameters.add(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[]{3, Types.TIMESTAMP}));
+        parameters.add(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[]{1, 7L}));
+        queryInfo.getParametersList().add(parameters);
+
+        //Act
+        listener.afterQuery(execution(250), List.of(queryInfo));
+
+        //Assert
+        List<SlowQueryRecord> records = buffer.snapshot();
+        assertEquals(1, records.size());
+        SlowQueryRecord record = records.get(0);
+        assertEquals(queryInfo.getQuery(), record.getSql());
+        assertEquals(250, record.getDurationMs());
+        assertEquals(Arrays.asList(7L, "Spring", null), record.getParameters());
+        assertTrue(record.isSuccess());
+        verify(sampler).maybeExplain(record);
+    }
+
+    @Test
+    public void testDisabledLogRecordsNothing() {
+        //Arrange
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setEnabled(false);
+        SlowQueryListener disabled = new SlowQueryListener(properties, buffer, sampler);
+
+        //Act
+        disabled.afterQuery(execution(10_000), List.of(new QueryInfo("select 1")));
+
+        //Assert
+        assertEquals(0, buffer.totalRecorded());
+        verify(sampler, never()).maybeExplain(any());
+    }
+
+    private static ExecutionInfo execution(long elapsedMs) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMs);
+        execInfo.setSuccess(true);
+        return execInfo;
+    }
+}
@@ -0,0 +1,57 @@
+package com.blog.blogapi.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlowQueryRingBufferTest {
+
+    @Test
+    public void testSnapshotReturnsNewestFirst() {
+        //Arrange
+        SlowQueryRingBuffer buffer = new SlowQueryRingBuffer(4);
+
+        //Act
+        buffer.add(record("select 1"));
+        buffer.add(record("select 2"));
+
+        //Assert
+        List<SlowQueryRecord> records = buffer.snapshot();
+        assertEquals(2, records.size());
+        assertEquals("select 2", records.get(0).getSql());
+        assertEquals("select 1", records.get(1).getSql());
+    }
+
+    @Test
+    public void testOldestEntriesAreOverwritten() {
+        //Arrange
+        SlowQueryRingBuffer buffer = new SlowQueryRingBuffer(3);
+
+        //Act
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(record("select " + i));
+        }
+
+        //Assert
+        List<SlowQueryRecord> records = buffer.snapshot();
+        assertEquals(3, records.size());
+        assertEquals("select 5", records.get(0).getSql());
+        assertEquals("select 3", records.get(2).getSql());
+        assertEquals(5, buffer.totalRecorded());
+    }
+
+    @Test
+    public void testOnlySelectStatementsAreExplained() {
+        assertTrue(ExplainPlanSampler.isReadOnly("  SELECT * FROM BlogPost"));
+        assertTrue(ExplainPlanSampler.isReadOnly("with x as (select 1) select * from x"));
+        assertFalse(ExplainPlanSampler.isReadOnly("update BlogPost set title = ?"));
+        assertFalse(ExplainPlanSampler.isReadOnly("delete from authors"));
+    }
+
+    private static SlowQueryRecord record(String sql) {
+        return new SlowQueryRecord(Instant.now(), sql, List.of(), 250, "BlogService.getAllPosts:44", true);
+    }
+}
@@ -0,0 +1,107 @@
+package com.blog.blogapi.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitFilterTest {
+
+    private long nanos = TimeUnit.DAYS.toNanos(1);
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new RateLimitProperties();
+        properties.setRead(new RateLimitProperties.Limit(10, 3));
+        properties.setSearch(new RateLimitProperties.Limit(1, 1));
+        properties.setWrite(new RateLimitProperties.Limit(1, 2));
+    }
+
+    @Test
+    public void testBurstThenRejectWithRetryAfterThenRefill() throws Exception {
+        RateLimitFilter filter = newFilter();
+
+        for (int i = 2; i >= 0; i--) {
+            MockHttpServletResponse response = send(filter, "GET", "/api/posts/page", "10.0.0.1");
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("3");
+            assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo(Integer.toString(i));
+        }
+
+        MockHttpServletResponse rejected = send(filter, "GET", "/api/posts/page", "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(rejected.getContentAsString()).contains("\"status\":429");
+
+        // 10 per second: one token back after 100 ms
+        nanos += TimeUnit.MILLISECONDS.toNanos(100);
+        assertThat(send(filter, "GET", "/api/posts/page", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "GET", "/api/posts/page", "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    public void testEndpointClassesAndClientsHaveSeparateBuckets() throws Exception {
+        RateLimitFilter filter = newFilter();
+
+        assertThat(send(filter, "GET", "/api/authors/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "GET", "/api/posts/search", "10.0.0.1").getStatus()).isEqualTo(429);
+
+        assertThat(send(filter, "GET", "/api/posts/1", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "GET", "/api/posts/search", "10.0.0.2").getStatus()).isEqualTo(200);
+
+        assertThat(send(filter, "POST", "/api/posts", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send(filter, "DELETE", "/api/posts/1", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = send(filter, "PUT", "/api/posts/1", "10.0.0.1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    public void testClientTableStaysBoundedAndKeepsActiveClients() throws Exception {
+        properties.setMaxClients(10);
+        RateLimitFilter filter = newFilter();
+        ClientRateLimiter limiter = limiterOf(filter);
+
+        // An active client: both write tokens spent, refilled only in two seconds
+        send(filter, "POST", "/api/posts", "10.0.0.99");
+        send(filter, "POST", "/api/posts", "10.0.0.99");
+
+        // A flood of new clients, all still active (a read refills in 100 ms)
+        for (int client = 0; client < 1000; client++) {
+            nanos += TimeUnit.MICROSECONDS.toNanos(50);
+            send(filter, "GET", "/api/posts", "192.168.0." + client);
+            assertThat(limiter.trackedClients()).isLessThanOrEqualTo(11);
+        }
+
+        assertThat(send(filter, "POST", "/api/posts", "10.0.0.99").getStatus()).isEqualTo(429);
+    }
+
+    private RateLimitFilter newFilter() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new RateLimitFilter(new ClientRateLimiter(properties, () -> nanos), objectMapper, new SimpleMeterRegistry());
+    }
+
+    private static ClientRateLimiter limiterOf(RateLimitFilter filter) throws Exception {
+        var field = RateLimitFilter.class.getDeclaredField("limiter");
+        field.setAccessible(true);
+        return (ClientRateLimiter) field.get(filter);
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, String method, String uri, String client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(client);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,181 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.AuthorDTO;
+import com.blog.blogapi.DTO.BatchResult;
+import com.blog.blogapi.DTO.ListPage;
+import com.blog.blogapi.DTO.PostSummaryDTO;
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import com.blog.blogapi.repository.CategoryRepository;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author listings cost the same few statements however many posts the authors have
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuthorListingIntegrationTest {
+
+    @TestConfiguration
+    static class StatementCounting {
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? ProxyDataSourceBuilder.create(dataSource).name("counting").countQuery().build()
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private Pagination pagination;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final List<Author> authors = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        blogPostRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+        authors.clear();
+
+        Category category = categoryRepository.save(new Category(null, "Java", "Java related"));
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int a = 0; a < 5; a++) {
+            Author author = authorRepository.save(new Author("Author " + a, "author" + a + "@example.com"));
+            authors.add(author);
+            // Author i has i * 3 posts
+            for (int i = 0; i < a * 3; i++) {
+                blogPostRepository.save(new BlogPost(null, "Post " + a + "-" + i, null, start.plusDays(i), author, List.of(category)));
+            }
+        }
+    }
+
+    @Test
+    public void testGetAuthors_PageWithoutPostsInTwoQueries() {
+        QueryCountHolder.clear();
+
+        ListPage<AuthorDTO> page = authorService.getAuthors(pagination.resolve(1, 2, null), 0);
+
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isEqualTo(2);
+        assertThat(page.getItems()).extracting(AuthorDTO::getName).containsExactly("Author 2", "Author 3");
+        assertThat(page.getItems()).extracting(AuthorDTO::getPostCount).containsExactly(6L, 9L);
+        assertThat(page.getItems()).allSatisfy(author -> assertThat(author.getPosts()).isNull());
+        assertThat(page.getPage()).isEqualTo(1);
+        assertThat(page.isHasMore()).isTrue();
+    }
+
+    @Test
+    public void testGetAuthors_CursorPagesInTwoQueriesEach() {
+        ListPage<AuthorDTO> first = authorService.getAuthors(pagination.resolve(null, 2, ""), 0);
+        assertThat(first.getItems()).extracting(AuthorDTO::getName).containsExactly("Author 0", "Author 1");
+        assertThat(first.getPage()).isNull();
+
+        QueryCountHolder.clear();
+        ListPage<AuthorDTO> second = authorService.getAuthors(pagination.resolve(null, 2, first.getNextCursor()), 0);
+
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isEqualTo(2);
+        assertThat(second.getItems()).extracting(AuthorDTO::getName).containsExactly("Author 2", "Author 3");
+
+        ListPage<AuthorDTO> last = authorService.getAuthors(pagination.resolve(null, 2, second.getNextCursor()), 0);
+        assertThat(last.getItems()).extracting(AuthorDTO::getName).containsExactly("Author 4");
+        assertThat(last.isHasMore()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void testGetAuthors_EmbedsTheNewestPostsOfEachAuthor() {
+        QueryCountHolder.clear();
+
+        List<AuthorDTO> all = authorService.getAuthors(pagination.resolve(null, null, null), 4).getItems();
+
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isEqualTo(3);
+        assertThat(all).hasSize(5);
+        assertThat(all.get(0).getPosts().getItems()).isEmpty();
+        assertThat(all.get(0).getPosts().isHasMore()).isFalse();
+        AuthorDTO prolific = all.get(4);
+        assertThat(prolific.getPosts().getItems()).extracting(PostSummaryDTO::getTitle)
+                .containsExactly("Post 4-11", "Post 4-10", "Post 4-9", "Post 4-8");
+        assertThat(prolific.getPosts().isHasMore()).isTrue();
+
+        // The cursor continues in the author feed
+        List<PostSummaryDTO> rest = blogService.getAuthorFeed(prolific.getId(), prolific.getPosts().getNextCursor(), 100).getItems();
+        assertThat(rest).hasSize(8);
+        assertThat(rest.get(0).getTitle()).isEqualTo("Post 4-7");
+    }
+
+    @Test
+    public void testBatchLookups_ResolveAuthorsWithoutPerRowSelects() {
+        QueryCountHolder.clear();
+
+        BatchResult<AuthorDTO> found = authorService.getAuthorsByIds(List.of(authors.get(4).getId(), 0L, authors.get(1).getId()));
+
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isEqualTo(2);
+        assertThat(found.getItems()).extracting(author -> author == null ? null : author.getPostCount())
+                .containsExactly(12L, null, 3L);
+        assertThat(found.getItems().get(0).getPosts()).isNull();
+        assertThat(found.getMissingIds()).containsExactly(0L);
+
+        List<Long> postIds = blogPostRepository.findAll().stream().map(BlogPost::getId).toList();
+        QueryCountHolder.clear();
+
+        BatchResult<BlogPost> posts = blogService.getPostsByIds(postIds);
+
+        // Posts with their authors joined in, then the bodies; nothing per distinct author
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isEqualTo(2);
+        assertThat(posts.getItems()).hasSize(postIds.size()).doesNotContainNull();
+    }
+
+    @Test
+    public void testSearchAuthorsByName() {
+        List<AuthorDTO> found = authorService.searchAuthorsByName("author 3", pagination.resolve(null, null, ""), 1).getItems();
+
+        assertThat(found).extracting(AuthorDTO::getName).containsExactly("Author 3");
+        assertThat(found.get(0).getPosts().getItems()).extracting(PostSummaryDTO::getTitle).containsExactly("Post 3-8");
+    }
+
+    @Test
+    public void testGetAuthors_RejectsUnboundedRequests() {
+        assertThatThrownBy(() -> authorService.getAuthors(pagination.resolve(0, 10, null), AuthorService.MAX_EMBEDDED_POSTS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,188 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.AuthorProfileDTO;
+import com.blog.blogapi.DTO.CategoryCountDTO;
+import com.blog.blogapi.DTO.PostSummaryDTO;
+import com.blog.blogapi.DTO.UpdateBlogPostDTO;
+import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import com.blog.blogapi.repository.CategoryRepository;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Counts the statements behind an author profile and checks it follows writes
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuthorProfileIntegrationTest {
+
+    @TestConfiguration
+    static class StatementCounting {
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? ProxyDataSourceBuilder.create(dataSource).name("counting").countQuery().build()
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private AuthorProfileService authorProfileService;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private CategoryCatalog categoryCatalog;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Author author;
+    private Author other;
+    private Category java;
+    private Category spring;
+    private BlogPost newest;
+
+    @BeforeEach
+    public void setUp() {
+        blogPostRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        other = authorRepository.save(new Author("John Roe", "john@example.com"));
+        java = categoryRepository.save(new Category(null, "Java", "Java related"));
+        spring = categoryRepository.save(new Category(null, "Spring", "Spring related"));
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 12; i++) {
+            List<Category> categories = i % 3 == 0 ? List.of(java, spring) : List.of(java);
+            newest = blogPostRepository.save(new BlogPost(null, "Post " + i, null, start.plusDays(i), author, categories));
+        }
+        blogPostRepository.save(new BlogPost(null, "Other", null, start, other, List.of(spring)));
+
+        // Categories were saved behind the catalog's back, load them before counting
+        categoryCatalog.invalidate();
+        categoryCatalog.findAll();
+    }
+
+    @Test
+    public void testGetProfile_BuildsInTwoQueriesThenServesFromMemory() {
+        QueryCountHolder.clear();
+
+        AuthorProfileDTO profile = authorProfileService.getProfile(author.getId());
+
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isEqualTo(2);
+        assertThat(profile.getName()).isEqualTo("Jane Doe");
+        assertThat(profile.getCreatedAt()).isNotNull();
+        assertThat(profile.getPostCount()).isEqualTo(12);
+        assertThat(profile.getCategories())
+                .extracting(CategoryCountDTO::getName, CategoryCountDTO::getPostCount)
+                .containsExactly(tuple("Java", 12L), tuple("Spring", 4L));
+        assertThat(profile.getPosts().getItems()).hasSize(10);
+        assertThat(profile.getPosts().getItems().get(0).getId()).isEqualTo(newest.getId());
+        assertThat(profile.getPosts().isHasMore()).isTrue();
+
+        QueryCountHolder.clear();
+        assertThat(authorProfileService.getProfile(author.getId())).isSameAs(profile);
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isZero();
+    }
+
+    @Test
+    public void testGetProfile_CursorContinuesInTheAuthorFeed() {
+        AuthorProfileDTO profile = authorProfileService.getProfile(author.getId());
+
+        List<PostSummaryDTO> rest = blogService.getAuthorFeed(author.getId(), profile.getPosts().getNextCursor(), 10).getItems();
+
+        assertThat(rest).hasSize(2);
+        assertThat(rest).extracting(PostSummaryDTO::getTitle).containsExactly("Post 1", "Post 0");
+    }
+
+    @Test
+    public void testGetProfile_ReloadsAfterAPostOfTheAuthorChanges() {
+        AuthorProfileDTO before = authorProfileService.getProfile(author.getId());
+
+        blogService.addCategoryToPost(newest.getId(), spring.getId());
+
+        AuthorProfileDTO after = authorProfileService.getProfile(author.getId());
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getCategories())
+                .extracting(CategoryCountDTO::getName, CategoryCountDTO::getPostCount)
+                .containsExactly(tuple("Java", 12L), tuple("Spring", 5L));
+    }
+
+    @Test
+    public void testGetProfile_BothAuthorsReloadAfterAPostMovesToAnotherAuthor() {
+        authorProfileService.getProfile(author.getId());
+        authorProfileService.getProfile(other.getId());
+
+        BlogPost moved = new BlogPost();
+        moved.setAuthor(other);
+        moved.setCategories(null);
+        blogService.updatePost(newest.getId(), moved);
+
+        assertThat(authorProfileService.getProfile(author.getId()).getPostCount()).isEqualTo(11);
+        assertThat(authorProfileService.getProfile(other.getId()).getPostCount()).isEqualTo(2);
+        assertThat(authorProfileService.getProfile(other.getId()).getPosts().getItems())
+                .extracting(PostSummaryDTO::getId).contains(newest.getId());
+
+        // PUT /api/posts/{id} moving it back
+        blogService.replacePost(newest.getId(), new UpdateBlogPostDTO("Post 11", "Body", newest.getDate(),
+                author.getId(), List.of(java.getId(), spring.getId())));
+
+        assertThat(authorProfileService.getProfile(author.getId()).getPostCount()).isEqualTo(12);
+        assertThat(authorProfileService.getProfile(other.getId()).getPostCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetProfile_AuthorWithoutPosts() {
+        Author newcomer = authorRepository.save(new Author("New Comer", "new@example.com"));
+        QueryCountHolder.clear();
+
+        AuthorProfileDTO profile = authorProfileService.getProfile(newcomer.getId());
+
+        assertThat(QueryCountHolder.getGrandTotal().getSelect()).isEqualTo(1);
+        assertThat(profile.getPostCount()).isZero();
+        assertThat(profile.getCategories()).isEmpty();
+        assertThat(profile.getPosts().getItems()).isEmpty();
+        assertThat(profile.getPosts().isHasMore()).isFalse();
+    }
+
+    @Test
+    public void testGetProfile_UnknownAuthor() {
+        assertThatThrownBy(() -> authorProfileService.getProfile(-1L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,219 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.AuthorRemovalDTO;
+import com.blog.blogapi.config.AuthorRemovalProperties;
+import com.blog.blogapi.config.PurgeProperties;
+import com.blog.blogapi.exception.ConflictException;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import com.blog.blogapi.repository.CategoryRepository;
+import com.blog.blogapi.service.AuthorRemovalService.PostHandling;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Removing an author together with their posts, or after moving the posts to another author
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class AuthorRemovalIntegrationTest {
+
+    @Autowired
+    private AuthorRemovalService authorRemovalService;
+
+    @Autowired
+    private AuthorProfileService authorProfileService;
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Author author;
+    private Author other;
+    private final List<BlogPost> posts = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        blogPostRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+        posts.clear();
+
+        author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        other = authorRepository.save(new Author("John Roe", "john@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        for (int i = 0; i < 7; i++) {
+            posts.add(blogService.createPost(new BlogPost(null, "Post " + i, "Body " + i, LocalDate.of(2024, 1 + i, 1),
+                    author, new ArrayList<>(List.of(category)))));
+        }
+        blogService.createPost(new BlogPost(null, "Other", "Other body", LocalDate.of(2024, 1, 1),
+                other, new ArrayList<>(List.of(category))));
+    }
+
+    @Test
+    public void testRemove_RefusesAnAuthorWithPosts() {
+        assertThatThrownBy(() -> authorRemovalService.remove(author.getId(), PostHandling.NONE, null))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("7 associated blog posts");
+
+        assertThat(authorRepository.existsById(author.getId())).isTrue();
+        assertThat(countPostsOf(author)).isEqualTo(7);
+    }
+
+    @Test
+    public void testRemove_AuthorWithOnlyDeletedPosts() {
+        posts.forEach(post -> blogService.deletePost(post.getId()));
+
+        authorRemovalService.remove(author.getId(), PostHandling.NONE, null);
+
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost")).isEqualTo(1);
+    }
+
+    @Test
+    public void testRemove_DeletesPostsJoinRowsAndBodies() {
+        // A soft-deleted post still references the author and goes too
+        blogService.deletePost(posts.get(0).getId());
+
+        AuthorRemovalDTO removal = authorRemovalService.remove(author.getId(), PostHandling.DELETE, null);
+
+        assertThat(removal.getStatus()).isEqualTo("COMPLETED");
+        assertThat(removal.getProcessedPosts()).isEqualTo(7);
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost")).isEqualTo(1);
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost_category")).isEqualTo(1);
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost_content")).isEqualTo(1);
+        assertThat(blogService.getAllPosts()).extracting(BlogPost::getTitle).containsExactly("Other");
+    }
+
+    @Test
+    public void testRemove_ReassignsPostsToAnotherAuthor() {
+        long profilePosts = authorProfileService.getProfile(other.getId()).getPostCount();
+
+        AuthorRemovalDTO removal = authorRemovalService.remove(author.getId(), PostHandling.REASSIGN, other.getId());
+
+        assertThat(removal.getReassignTo()).isEqualTo(other.getId());
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(countPostsOf(other)).isEqualTo(8);
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost_category")).isEqualTo(8);
+        // The profile cached before the move was dropped
+        assertThat(profilePosts).isEqualTo(1);
+        assertThat(authorProfileService.getProfile(other.getId()).getPostCount()).isEqualTo(8);
+    }
+
+    @Test
+    public void testRemove_RejectsInvalidReassignment() {
+        assertThatThrownBy(() -> authorRemovalService.remove(author.getId(), PostHandling.REASSIGN, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> authorRemovalService.remove(author.getId(), PostHandling.REASSIGN, author.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PostHandling.parse("archive"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(countPostsOf(author)).isEqualTo(7);
+    }
+
+    @Test
+    public void testStartRemoval_DeletesInChunksAndReportsProgress() throws InterruptedException {
+        AuthorRemovalService chunked = newService(3);
+
+        AuthorRemovalDTO started = chunked.startRemoval(author.getId(), PostHandling.DELETE, null);
+        assertThat(started.getJobId()).isNotNull();
+        assertThat(started.getTotalPosts()).isEqualTo(7);
+
+        AuthorRemovalDTO finished = awaitFinished(chunked, started.getJobId());
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getProcessedPosts()).isEqualTo(7);
+        assertThat(finished.getFinishedAt()).isNotNull();
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost")).isEqualTo(1);
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost_content")).isEqualTo(1);
+    }
+
+    @Test
+    public void testStartRemoval_ReassignsInChunks() throws InterruptedException {
+        AuthorRemovalService chunked = newService(2);
+
+        AuthorRemovalDTO started = chunked.startRemoval(author.getId(), PostHandling.REASSIGN, other.getId());
+
+        AuthorRemovalDTO finished = awaitFinished(chunked, started.getJobId());
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getProcessedPosts()).isEqualTo(7);
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(countPostsOf(other)).isEqualTo(8);
+    }
+
+    // Deleted rows would keep the next setUp from deleting authors and categories
+    @AfterEach
+    public void purgeAllDeleted() {
+        PurgeProperties properties = new PurgeProperties();
+        properties.setRetentionHours(0);
+        properties.setPauseMs(0);
+        new PostPurgeJob(jdbcTemplate, transactionTemplate, properties, new SimpleMeterRegistry()).purge();
+    }
+
+    private AuthorRemovalService newService(int chunkSize) {
+        AuthorRemovalProperties properties = new AuthorRemovalProperties();
+        properties.setChunkSize(chunkSize);
+        properties.setPauseMs(0);
+        return new AuthorRemovalService(authorRepository, jdbcTemplate, transactionTemplate, invalidationBus,
+                trendingService, properties, new SimpleMeterRegistry());
+    }
+
+    private static AuthorRemovalDTO awaitFinished(AuthorRemovalService service, String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        AuthorRemovalDTO removal = service.getRemoval(jobId);
+        while (!removal.getStatus().equals("COMPLETED") && !removal.getStatus().equals("FAILED")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            removal = service.getRemoval(jobId);
+        }
+        return removal;
+    }
+
+    private long countPostsOf(Author owner) {
+        return countRows("SELECT COUNT(*) FROM blogpost WHERE author_id = " + owner.getId());
+    }
+
+    private long countRows(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -1,6 +1,8 @@
 package com.blog.blogapi.service;
 
+import com.blog.blogapi.config.PaginationProperties;
 import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.InvalidationBus;
 import com.blog.blogapi.model.Author;
 import com.blog.blogapi.model.BlogPost;
 import com.blog.blogapi.model.Category;
@@ -29,6 +31,33 @@ public class BlogServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private PostContentService postContentService;
+
+    @Mock
+    private PostHtmlService postHtmlService;
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private ReadCoalescer readCoalescer;
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
+    @Mock
+    private PostArchive postArchive;
+
+    @Mock
+    private PaginationProperties paginationProperties;
+
     @InjectMocks
     private BlogService blogService;
 
@@ -61,7 +90,9 @@ public class BlogServiceTest {
 
         //Assert
         verify(blogPostRepository, times(1)).findById(1L);
-        verify(blogPostRepository, times(1)).delete(mockPost);
+        verify(blogPostRepository, times(1)).save(mockPost);
+        verify(blogPostRepository, never()).delete(any(BlogPost.class));
+        assertNotNull(mockPost.getDeletedAt());
     }
 
     @Test
@@ -127,7 +158,7 @@ public class BlogServiceTest {
 
         BlogPost post = new BlogPost();
         post.setId(postId);
-        post.setCategories(new ArrayList<>());
+        post.setCategories(new LinkedHashSet<>());
 
         Category category = new Category();
         category.setId(categoryId);
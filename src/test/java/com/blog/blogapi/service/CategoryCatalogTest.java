@@ -0,0 +1,102 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.CategoryDTO;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InMemoryInvalidationTransport;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationProperties;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CategoryCatalogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InvalidationBus invalidationBus =
+            new InvalidationBus(new InMemoryInvalidationTransport(), new InvalidationProperties(), meterRegistry);
+    private final List<Category> stored = new ArrayList<>();
+    private CategoryRepository categoryRepository;
+    private CategoryCatalog catalog;
+
+    @BeforeEach
+    public void setUp() {
+        stored.add(new Category(3L, "Spring Boot", "Framework"));
+        stored.add(new Category(1L, "Java", "Language"));
+        stored.add(new Category(7L, "JavaScript", null));
+
+        categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAll(any(Sort.class))).thenAnswer(invocation -> stored.stream()
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList());
+        catalog = new CategoryCatalog(categoryRepository, invalidationBus, meterRegistry);
+    }
+
+    @Test
+    public void testReads_AreServedFromOneLoad() {
+        assertThat(catalog.findAll()).extracting(CategoryDTO::getId).containsExactly(1L, 3L, 7L);
+        assertThat(catalog.findById(3L)).get().extracting(CategoryDTO::getName).isEqualTo("Spring Boot");
+        assertThat(catalog.existsById(7L)).isTrue();
+        assertThat(catalog.existsByName("sPRING bOOT")).isTrue();
+        assertThat(catalog.searchByName("JAVA")).extracting(CategoryDTO::getId).containsExactly(1L, 7L);
+        assertThat(catalog.findAllById(List.of(7L, 1L, 7L))).extracting(CategoryDTO::getId).containsExactly(7L, 1L);
+        assertThat(catalog.count()).isEqualTo(3);
+
+        verify(categoryRepository, times(1)).findAll(any(Sort.class));
+        verifyNoMoreInteractions(categoryRepository);
+    }
+
+    @Test
+    public void testCategoryWrite_RebuildsOnTheNextRead() {
+        assertThat(catalog.count()).isEqualTo(3);
+
+        stored.add(new Category(9L, "Kotlin", "Language"));
+        invalidationBus.publishAfterCommit(EntityType.CATEGORY, 9L);
+
+        assertThat(catalog.findById(9L)).get().extracting(CategoryDTO::getName).isEqualTo("Kotlin");
+        assertThat(catalog.count()).isEqualTo(4);
+        verify(categoryRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    public void testWriteDuringRebuild_LeavesTheSnapshotOutdated() {
+        when(categoryRepository.findAll(any(Sort.class))).thenAnswer(invocation -> {
+            List<Category> loaded = List.copyOf(stored);
+            // Lands after the query read the table
+            invalidationBus.publishAfterCommit(EntityType.CATEGORY, 1L);
+            return loaded;
+        }).thenAnswer(invocation -> List.copyOf(stored));
+
+        catalog.count();
+        catalog.count();
+        catalog.count();
+
+        verify(categoryRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    public void testUnknownId_IsCheckedInTheDatabaseBeforeReportingMissing() {
+        catalog.count();
+        Category createdElsewhere = new Category(12L, "Go", "Language");
+        when(categoryRepository.findById(12L)).thenReturn(Optional.of(createdElsewhere));
+        when(categoryRepository.existsById(13L)).thenReturn(false);
+        stored.add(createdElsewhere);
+
+        assertThat(catalog.findById(12L)).get().extracting(CategoryDTO::getName).isEqualTo("Go");
+        assertThat(catalog.existsById(13L)).isFalse();
+
+        // Finding it outside the snapshot triggered a rebuild
+        assertThat(catalog.existsById(12L)).isTrue();
+        verify(categoryRepository, times(2)).findAll(any(Sort.class));
+    }
+}
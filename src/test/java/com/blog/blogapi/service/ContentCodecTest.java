@@ -0,0 +1,58 @@
+package com.blog.blogapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentCodecTest {
+
+    private static final String POST = "Spring Boot makes it easy to create stand-alone, production-grade Spring based "
+            + "applications that you can just run. Spring Boot takes an opinionated view of the Spring platform.";
+
+    @Test
+    public void testRoundTripWithoutDictionary() {
+        String text = POST.repeat(5);
+
+        byte[] compressed = ContentCodec.compress(text, null, 6);
+
+        assertNotNull(compressed);
+        assertTrue(compressed.length < text.length());
+        assertEquals(text, ContentCodec.decompress(compressed, text.getBytes().length, null));
+    }
+
+    @Test
+    public void testTrainedDictionaryImprovesShortPosts() {
+        //Arrange
+        List<String> corpus = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            corpus.add("Post " + i + ": " + POST);
+        }
+        byte[] dictionary = ContentDictionaryTrainer.train(corpus, 32 * 1024);
+
+        //Act
+        byte[] plain = ContentCodec.compress(POST, null, 6);
+        byte[] withDictionary = ContentCodec.compress(POST, dictionary, 6);
+
+        //Assert
+        assertNotNull(withDictionary);
+        assertTrue(plain == null || withDictionary.length < plain.length);
+        assertEquals(POST, ContentCodec.decompress(withDictionary, POST.getBytes().length, dictionary));
+    }
+
+    @Test
+    public void testIncompressibleContentIsRejected() {
+        assertNull(ContentCodec.compress("Hi", null, 6));
+    }
+
+    @Test
+    public void testMissingDictionaryFailsLoudly() {
+        byte[] dictionary = ContentDictionaryTrainer.train(List.of(POST, POST), 1024);
+        byte[] compressed = ContentCodec.compress(POST, dictionary, 6);
+
+        assertThrows(IllegalStateException.class,
+                () -> ContentCodec.decompress(compressed, POST.getBytes().length, null));
+    }
+}
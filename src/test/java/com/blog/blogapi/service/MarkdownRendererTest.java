@@ -0,0 +1,41 @@
+package com.blog.blogapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MarkdownRendererTest {
+
+    @Test
+    public void testRendersMarkdown() {
+        String html = MarkdownRenderer.render("# Title\n\nSome *emphasis* and a [link](https://example.com).");
+
+        assertTrue(html.contains("<h1>Title</h1>"));
+        assertTrue(html.contains("<em>emphasis</em>"));
+        assertTrue(html.contains("href=\"https://example.com\""));
+        assertTrue(html.contains("rel=\"nofollow noopener\""));
+    }
+
+    @Test
+    public void testEscapesRawHtml() {
+        String html = MarkdownRenderer.render("Hello <script>alert('x')</script>\n\n<img src=x onerror=alert(1)>");
+
+        assertFalse(html.contains("<script>"));
+        assertFalse(html.contains("<img"));
+        assertTrue(html.contains("&lt;script&gt;"));
+    }
+
+    @Test
+    public void testDropsScriptingUrls() {
+        String html = MarkdownRenderer.render("[click](javascript:alert(1))");
+
+        assertFalse(html.contains("javascript:"));
+    }
+
+    @Test
+    public void testHashIsStableAndContentSensitive() {
+        assertEquals(ContentCodec.hash("# Title"), ContentCodec.hash("# Title"));
+        assertNotEquals(ContentCodec.hash("# Title"), ContentCodec.hash("# Title!"));
+        assertEquals(64, ContentCodec.hash("").length());
+    }
+}
@@ -0,0 +1,121 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.ArchiveMonthDTO;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InMemoryInvalidationTransport;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationProperties;
+import com.blog.blogapi.repository.BlogPostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class PostArchiveTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InvalidationBus invalidationBus =
+            new InvalidationBus(new InMemoryInvalidationTransport(), new InvalidationProperties(), meterRegistry);
+    private BlogPostRepository blogPostRepository;
+
+    @BeforeEach
+    public void setUp() {
+        blogPostRepository = mock(BlogPostRepository.class);
+        when(blogPostRepository.countByMonthBefore(any())).thenReturn(List.of(
+                new ArchiveMonthDTO(2023, 12, 4L), new ArchiveMonthDTO(2024, 1, 7L)));
+        when(blogPostRepository.countByMonthFrom(any())).thenReturn(List.of(new ArchiveMonthDTO(2024, 2, 2L)));
+    }
+
+    @Test
+    public void testGetMonths_LoadsClosedMonthsOnceAndCountsTheCurrentOneEveryTime() {
+        PostArchive archive = newArchive("2024-02-15T10:00:00Z");
+
+        List<ArchiveMonthDTO> months = archive.getMonths();
+        archive.getMonths();
+
+        assertThat(months).extracting(ArchiveMonthDTO::getYear, ArchiveMonthDTO::getMonth)
+                .containsExactly(tuple(2024, 2),
+                        tuple(2024, 1),
+                        tuple(2023, 12));
+        verify(blogPostRepository, times(1)).countByMonthBefore(LocalDate.of(2024, 2, 1));
+        verify(blogPostRepository, times(2)).countByMonthFrom(LocalDate.of(2024, 2, 1));
+    }
+
+    @Test
+    public void testChangeInClosedMonth_ReloadsClosedMonths() {
+        PostArchive archive = newArchive("2024-02-15T10:00:00Z");
+        archive.getMonths();
+
+        invalidationBus.publishAfterCommit(EntityType.ARCHIVE_MONTH, PostArchive.monthId(LocalDate.of(2024, 2, 3)));
+        archive.getMonths();
+        verify(blogPostRepository, times(1)).countByMonthBefore(any());
+
+        invalidationBus.publishAfterCommit(EntityType.ARCHIVE_MONTH, PostArchive.monthId(LocalDate.of(2023, 12, 24)));
+        archive.getMonths();
+        verify(blogPostRepository, times(2)).countByMonthBefore(any());
+    }
+
+    @Test
+    public void testIsKnownEmpty_AnswersClosedMonthsFromMemory() {
+        PostArchive archive = newArchive("2024-02-15T10:00:00Z");
+
+        assertThat(archive.isKnownEmpty(YearMonth.of(2023, 11))).isTrue();
+        assertThat(archive.isKnownEmpty(YearMonth.of(2024, 1))).isFalse();
+        // The current month is never assumed empty
+        assertThat(archive.isKnownEmpty(YearMonth.of(2024, 3))).isFalse();
+        verify(blogPostRepository, times(1)).countByMonthBefore(any());
+    }
+
+    @Test
+    public void testMonthRollover_ClosesTheFinishedMonth() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-02-29T23:00:00Z"));
+        PostArchive archive = new PostArchive(blogPostRepository, invalidationBus, meterRegistry, clock);
+        archive.getMonths();
+
+        clock.now = Instant.parse("2024-03-01T01:00:00Z");
+        archive.getMonths();
+
+        verify(blogPostRepository).countByMonthBefore(LocalDate.of(2024, 2, 1));
+        verify(blogPostRepository).countByMonthBefore(LocalDate.of(2024, 3, 1));
+        verify(blogPostRepository).countByMonthFrom(LocalDate.of(2024, 3, 1));
+    }
+
+    private PostArchive newArchive(String now) {
+        return new PostArchive(blogPostRepository, invalidationBus, meterRegistry, new MutableClock(Instant.parse(now)));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
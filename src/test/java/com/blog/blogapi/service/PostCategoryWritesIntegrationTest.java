@@ -0,0 +1,132 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.BulkCategoryRequest;
+import com.blog.blogapi.DTO.UpdateBlogPostDTO;
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import com.blog.blogapi.repository.CategoryRepository;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements a single category change sends to the database
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostCategoryWritesIntegrationTest {
+
+    @TestConfiguration
+    static class StatementCounting {
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? ProxyDataSourceBuilder.create(dataSource).name("counting").countQuery().build()
+                            : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private BlogPost post;
+    private Category java;
+    private Category spring;
+
+    @BeforeEach
+    public void setUp() {
+        blogPostRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+
+        Author author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category tech = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        java = categoryRepository.save(new Category(null, "Java", "Java related"));
+        spring = categoryRepository.save(new Category(null, "Spring", "Spring related"));
+        post = blogPostRepository.save(new BlogPost(null, "Post", null, LocalDate.now(), author, List.of(tech, java)));
+    }
+
+    @Test
+    public void testAddCategoryToPost_InsertsExactlyOneJoinRow() {
+        QueryCountHolder.clear();
+
+        blogService.addCategoryToPost(post.getId(), spring.getId());
+
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getInsert()).isEqualTo(1);
+        assertThat(count.getDelete()).isZero();
+        assertThat(blogPostRepository.countByCategoryId(spring.getId())).isEqualTo(1);
+    }
+
+    @Test
+    public void testBulkAssign_RepeatedAssignmentAddsNoRowsAndDoesNotFail() {
+        BulkCategoryRequest byIds = new BulkCategoryRequest(List.of(post.getId()), null);
+        BulkCategoryRequest byAuthor = new BulkCategoryRequest(null, post.getAuthor().getId());
+
+        assertThat(blogService.addCategoryToPosts(spring.getId(), byIds)).isEqualTo(1);
+        assertThat(blogService.addCategoryToPosts(spring.getId(), byIds)).isZero();
+        assertThat(blogService.addCategoryToPosts(spring.getId(), byAuthor)).isZero();
+        assertThat(blogService.addCategoryToPosts(java.getId(), byAuthor)).isZero();
+
+        assertThat(blogPostRepository.countByCategoryId(spring.getId())).isEqualTo(1);
+    }
+
+    @Test
+    public void testReplacePost_WritesOnlyTheChangedJoinRows() {
+        UpdateBlogPostDTO update = new UpdateBlogPostDTO("Post", null, post.getDate(), post.getAuthor().getId(),
+                List.of(java.getId(), spring.getId()));
+        QueryCountHolder.clear();
+
+        blogService.replacePost(post.getId(), update);
+
+        // Tech leaves, Spring joins, Java stays untouched
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getDelete()).isEqualTo(1);
+        assertThat(count.getInsert()).isEqualTo(1);
+        assertThat(blogPostRepository.countByCategoryId(java.getId())).isEqualTo(1);
+        assertThat(blogPostRepository.countByCategoryId(spring.getId())).isEqualTo(1);
+    }
+
+    @Test
+    public void testRemoveCategoryFromPost_DeletesExactlyOneJoinRow() {
+        QueryCountHolder.clear();
+
+        blogService.removeCategoryFromPost(post.getId(), java.getId());
+
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getDelete()).isEqualTo(1);
+        assertThat(count.getInsert()).isZero();
+        assertThat(blogPostRepository.countByCategoryId(java.getId())).isZero();
+    }
+}
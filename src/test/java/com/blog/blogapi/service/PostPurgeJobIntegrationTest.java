@@ -0,0 +1,146 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.PurgeProperties;
+import com.blog.blogapi.model.Author;
+import com.blog.blogapi.model.BlogPost;
+import com.blog.blogapi.model.Category;
+import com.blog.blogapi.repository.AuthorRepository;
+import com.blog.blogapi.repository.BlogPostRepository;
+import com.blog.blogapi.repository.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Soft delete hides posts from every read; the purge job removes them in chunks later
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostPurgeJobIntegrationTest {
+
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    private Author author;
+    private final List<BlogPost> posts = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        blogPostRepository.deleteAll();
+        authorRepository.deleteAll();
+        categoryRepository.deleteAll();
+        posts.clear();
+
+        author = authorRepository.save(new Author("Jane Doe", "jane@example.com"));
+        Category category = categoryRepository.save(new Category(null, "Tech", "Technology related"));
+        for (int i = 0; i < 5; i++) {
+            posts.add(blogService.createPost(new BlogPost(null, "Post " + i, "Body " + i, LocalDate.now(),
+                    author, new ArrayList<>(List.of(category)))));
+        }
+    }
+
+    @Test
+    public void testDeletePost_HidesThePostFromReads() {
+        assertThat(blogService.deletePost(posts.get(0).getId())).isTrue();
+
+        assertThat(blogPostRepository.findById(posts.get(0).getId())).isEmpty();
+        assertThat(blogService.getAllPosts()).hasSize(4);
+        assertThat(authorRepository.countPostsByAuthorId(author.getId())).isEqualTo(4);
+        assertThat(blogService.deletePost(posts.get(0).getId())).isFalse();
+        // Still stored until purged
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost")).isEqualTo(5);
+    }
+
+    @Test
+    public void testPurge_RemovesExpiredDeletionsInChunks() {
+        for (int i = 0; i < 4; i++) {
+            blogService.deletePost(posts.get(i).getId());
+        }
+        // Three deletions are past the retention period, one is recent
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("UPDATE blogpost SET deleted_at = DATEADD('DAY', -30, CURRENT_TIMESTAMP) WHERE id = ?", posts.get(i).getId());
+        }
+        PurgeProperties properties = new PurgeProperties();
+        properties.setChunkSize(2);
+        PostPurgeJob job = newJob(properties);
+
+        assertThat(job.purge()).isEqualTo(3);
+
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost")).isEqualTo(2);
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost_category")).isEqualTo(2);
+        assertThat(countRows("SELECT COUNT(*) FROM blogpost_content")).isEqualTo(2);
+        assertThat(blogService.getAllPosts()).extracting(BlogPost::getId).containsExactly(posts.get(4).getId());
+        assertThat(job.purge()).isZero();
+    }
+
+    @Test
+    public void testScheduler_KeepsRunningOtherJobsWhileOneIsPaused() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRan = new CountDownLatch(1);
+        try {
+            // Stands in for a purge sleeping between chunks
+            taskScheduler.execute(() -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            taskScheduler.execute(otherRan::countDown);
+
+            assertThat(otherRan.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    // Deleted rows would keep the next setUp from deleting authors and categories
+    @AfterEach
+    public void purgeAllDeleted() {
+        PurgeProperties properties = new PurgeProperties();
+        properties.setRetentionHours(0);
+        newJob(properties).purge();
+    }
+
+    private PostPurgeJob newJob(PurgeProperties properties) {
+        properties.setPauseMs(0);
+        return new PostPurgeJob(jdbcTemplate, transactionTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    private long countRows(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.model.BlogPost;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PostStatsTest {
+
+    @Test
+    public void testPlainTextStripsMarkdown() {
+        String text = PostStats.plainText("# Title\n\nSome **bold** and a [link](https://example.com).\n\n- item\n\n```\ncode()\n```");
+
+        assertEquals("Title Some bold and a link. item", text);
+    }
+
+    @Test
+    public void testExcerptCutsAtWordBoundary() {
+        String text = "word ".repeat(100).trim();
+
+        String excerpt = PostStats.excerpt(text);
+
+        assertTrue(excerpt.length() <= PostStats.EXCERPT_LENGTH);
+        assertTrue(excerpt.endsWith("word…"));
+    }
+
+    @Test
+    public void testApplySetsStats() {
+        //Arrange
+        BlogPost post = new BlogPost();
+        String content = "Lorem ipsum ".repeat(250);
+
+        //Act
+        PostStats.apply(post, content);
+
+        //Assert
+        assertEquals(500, post.getWordCount());
+        assertEquals(3, post.getReadingTimeMinutes());
+        assertTrue(post.getExcerpt().startsWith("Lorem ipsum Lorem"));
+    }
+
+    @Test
+    public void testApplyEmptyContent() {
+        BlogPost post = new BlogPost();
+
+        PostStats.apply(post, null);
+
+        assertNull(post.getExcerpt());
+        assertEquals(0, post.getWordCount());
+        assertEquals(0, post.getReadingTimeMinutes());
+    }
+}
@@ -0,0 +1,86 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.ViewCountProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PostViewCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PostViewCounter counter;
+    private final List<Object[]> written = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            written.addAll(rows);
+            int[] updated = new int[rows.size()];
+            Arrays.fill(updated, 1);
+            return updated;
+        });
+
+        ViewCountProperties properties = new ViewCountProperties();
+        properties.setFlushBatchSize(2);
+        counter = new PostViewCounter(jdbcTemplate, mock(PlatformTransactionManager.class), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testConcurrentViews_AreAllFlushedOnceInIdOrder() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.record(3 - i % 3);
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.flush()).isEqualTo(3);
+
+        assertThat(written).extracting(row -> row[1]).containsExactly(1L, 2L, 3L);
+        assertThat(written).extracting(row -> (Long) row[0]).containsExactly(26_664L, 26_664L, 26_672L);
+        // Two chunks of at most two posts each
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertThat(counter.unflushed(1)).isZero();
+        assertThat(counter.flush()).isZero();
+    }
+
+    @Test
+    public void testFailedFlush_KeepsViewsForTheNextFlush() {
+        counter.record(7);
+        counter.record(7);
+        doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        assertThatThrownBy(() -> counter.flush()).isInstanceOf(QueryTimeoutException.class);
+        assertThat(counter.unflushed(7)).isEqualTo(2);
+
+        reset(jdbcTemplate);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        counter.record(7);
+
+        assertThat(counter.flush()).isEqualTo(1);
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> rows) -> (Long) rows.get(0)[0] == 3L));
+        assertThat(counter.unflushed(7)).isZero();
+    }
+}
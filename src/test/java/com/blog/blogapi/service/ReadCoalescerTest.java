@@ -0,0 +1,171 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.config.CoalescingProperties;
+import com.blog.blogapi.exception.ResourceNotFoundException;
+import com.blog.blogapi.invalidation.EntityType;
+import com.blog.blogapi.invalidation.InMemoryInvalidationTransport;
+import com.blog.blogapi.invalidation.InvalidationBus;
+import com.blog.blogapi.invalidation.InvalidationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+public class ReadCoalescerTest {
+
+    private static final int FOLLOWERS = 7;
+
+    private final CoalescingProperties properties = new CoalescingProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InvalidationBus invalidationBus =
+            new InvalidationBus(new InMemoryInvalidationTransport(), new InvalidationProperties(), meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loadStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseLoad = new CountDownLatch(1);
+    private final List<Thread> waiting = new ArrayList<>();
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(FOLLOWERS + 1, runnable -> {
+            Thread thread = new Thread(runnable);
+            waiting.add(thread);
+            return thread;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseLoad.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentLoads_ShareOneDatabaseLoad() throws Exception {
+        ReadCoalescer coalescer = newCoalescer();
+        Future<String> leader = executor.submit(() -> coalescer.load(EntityType.POST, 1L, blockingLoader(() -> "post 1")));
+        loadStarted.await();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> coalescer.load(EntityType.POST, 1L, () -> "own load")));
+        }
+        awaitFollowersWaiting();
+        releaseLoad.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("post 1");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("post 1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(reads("loaded")).isEqualTo(1);
+        assertThat(reads("shared")).isEqualTo(FOLLOWERS);
+    }
+
+    @Test
+    public void testFailedLoad_PropagatesToEveryWaitingRead() throws Exception {
+        ReadCoalescer coalescer = newCoalescer();
+        Future<String> leader = executor.submit(() -> coalescer.load(EntityType.POST, 1L, blockingLoader(() -> {
+            throw new ResourceNotFoundException("Post not found with id 1");
+        })));
+        loadStarted.await();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> coalescer.load(EntityType.POST, 1L, () -> "own load")));
+        }
+        awaitFollowersWaiting();
+        releaseLoad.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        for (Future<String> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        }
+
+        // The failure is not remembered, the next read loads again
+        assertThat(coalescer.load(EntityType.POST, 1L, () -> "post 1")).isEqualTo("post 1");
+    }
+
+    @Test
+    public void testStuckLoad_WaitingReadLoadsForItselfAfterTimeout() throws Exception {
+        properties.setWaitTimeoutMs(50);
+        ReadCoalescer coalescer = newCoalescer();
+        executor.submit(() -> coalescer.load(EntityType.POST, 1L, blockingLoader(() -> "post 1")));
+        loadStarted.await();
+
+        assertThat(coalescer.load(EntityType.POST, 1L, () -> "own load")).isEqualTo("own load");
+        assertThat(reads("timed-out")).isEqualTo(1);
+    }
+
+    @Test
+    public void testForget_LaterReadsStartAFreshLoad() throws Exception {
+        ReadCoalescer coalescer = newCoalescer();
+        executor.submit(() -> coalescer.load(EntityType.POST, 1L, blockingLoader(() -> "before update")));
+        loadStarted.await();
+
+        // No transaction here, so the write counts as committed right away
+        invalidationBus.publishAfterCommit(EntityType.POST, 1L);
+
+        assertThat(coalescer.load(EntityType.POST, 1L, () -> "after update")).isEqualTo("after update");
+        assertThat(reads("shared")).isZero();
+    }
+
+    @Test
+    public void testDifferentIdsAndTypes_DoNotShare() throws Exception {
+        ReadCoalescer coalescer = newCoalescer();
+        executor.submit(() -> coalescer.load(EntityType.POST, 1L, blockingLoader(() -> "post 1")));
+        loadStarted.await();
+
+        assertThat(coalescer.load(EntityType.POST, 2L, () -> "post 2")).isEqualTo("post 2");
+        assertThat(coalescer.load(EntityType.AUTHOR, 1L, () -> "author 1")).isEqualTo("author 1");
+    }
+
+    private ReadCoalescer newCoalescer() {
+        return new ReadCoalescer(properties, mock(PlatformTransactionManager.class), invalidationBus, meterRegistry);
+    }
+
+    // Loader that signals it started, then holds the load open until the test releases it
+    private <V> Supplier<V> blockingLoader(Supplier<V> result) {
+        return () -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            try {
+                releaseLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private void awaitFollowersWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            long parked = waiting.stream().filter(thread -> thread.getState() == Thread.State.TIMED_WAITING).count();
+            if (parked >= FOLLOWERS) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Followers did not start waiting");
+    }
+
+    private double reads(String outcome) {
+        return meterRegistry.get("blog.coalescing.reads").tag("group", "post").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,148 @@
+package com.blog.blogapi.service;
+
+import com.blog.blogapi.DTO.PostSummaryDTO;
+import com.blog.blogapi.DTO.TrendingPostDTO;
+import com.blog.blogapi.config.TrendingProperties;
+import com.blog.blogapi.repository.BlogPostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class TrendingServiceTest {
+
+    private final MutableClock clock = new MutableClock();
+    private BlogPostRepository blogPostRepository;
+    private TrendingProperties properties;
+
+    @BeforeEach
+    public void setUp() {
+        blogPostRepository = mock(BlogPostRepository.class);
+        // Every id exists, titled after itself
+        when(blogPostRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new PostSummaryDTO(id, "Post " + id, null, null, null, null, null, null)).toList();
+        });
+        properties = new TrendingProperties();
+        properties.setHalfLifeMinutes(60);
+    }
+
+    @Test
+    public void testRanking_DecaysOldActivityAndWeighsWrites() {
+        TrendingService trending = newService();
+        for (int i = 0; i < 10; i++) {
+            trending.recordView(1);
+        }
+        clock.advance(Duration.ofHours(3));
+        // 10 views three half-lives ago are worth 1.25 views now
+        trending.recordView(2);
+        trending.recordView(2);
+        trending.recordWrite(3);
+
+        trending.refresh();
+
+        List<TrendingPostDTO> top = trending.getTrending(3);
+        assertThat(top).extracting(item -> item.getPost().getId()).containsExactly(3L, 2L, 1L);
+        assertThat(top.get(0).getScore()).isEqualTo(5.0, offset(1e-9));
+        assertThat(top.get(2).getScore()).isEqualTo(1.25, offset(1e-9));
+    }
+
+    @Test
+    public void testTopK_MatchesBruteForceAcrossRescalesAndRemovals() {
+        properties.setSize(5);
+        properties.setStripes(3);
+        TrendingService trending = newService();
+        Map<Long, Double> expected = new HashMap<>();
+        Random random = new Random(42);
+        double lambda = Math.log(2) / Duration.ofHours(1).toMillis();
+
+        for (int step = 0; step < 20_000; step++) {
+            long postId = 1 + (long) Math.abs(random.nextGaussian() * 40);
+            long elapsed = random.nextInt(60_000);
+            clock.advance(Duration.ofMillis(elapsed));
+            expected.replaceAll((id, score) -> score * Math.exp(-lambda * elapsed));
+            if (random.nextInt(500) == 0) {
+                trending.forget(postId);
+                expected.remove(postId);
+            } else {
+                trending.recordView(postId);
+                expected.merge(postId, 1.0, Double::sum);
+            }
+        }
+
+        trending.refresh();
+
+        List<Long> bruteForce = expected.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(5).map(Map.Entry::getKey).toList();
+        List<TrendingPostDTO> top = trending.getTrending(5);
+        assertThat(top).extracting(item -> item.getPost().getId()).containsExactlyElementsOf(bruteForce);
+        for (TrendingPostDTO item : top) {
+            assertThat(item.getScore()).isCloseTo(expected.get(item.getPost().getId()), withinPercentage(1e-6));
+        }
+    }
+
+    @Test
+    public void testRefresh_SkipsTheDatabaseWhenNothingHappened() {
+        TrendingService trending = newService();
+        trending.recordView(1);
+        trending.refresh();
+        trending.refresh();
+
+        verify(blogPostRepository, times(1)).findSummariesByIdIn(anyCollection());
+        assertThat(trending.getTrending(10)).hasSize(1);
+    }
+
+    @Test
+    public void testGetTrending_RejectsLimitOutsideRankingSize() {
+        TrendingService trending = newService();
+
+        assertThatThrownBy(() -> trending.getTrending(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trending.getTrending(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TrendingService newService() {
+        return new TrendingService(blogPostRepository, properties, new SimpleMeterRegistry(), clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-15T10:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}